@@ -1,7 +1,12 @@
 package io.github.pablovns;
 
+import io.github.pablovns.metricas.Metricas;
 import io.github.pablovns.ui.MenuPrincipal;
 
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Classe principal do sistema de notícias do IBGE.
  */
@@ -9,5 +14,20 @@ public class Main {
     public static void main(String[] args) {
         MenuPrincipal menu = new MenuPrincipal();
         menu.iniciar();
+        exportarMetricas();
+    }
+
+    // Grava as métricas no formato do Prometheus quando executado com -Dmetricas.arquivo=<caminho>
+    private static void exportarMetricas() {
+        String arquivo = System.getProperty("metricas.arquivo");
+        if (arquivo == null || arquivo.isBlank()) {
+            return;
+        }
+
+        try (FileWriter writer = new FileWriter(arquivo, StandardCharsets.UTF_8)) {
+            Metricas.exportarPrometheus(writer);
+        } catch (IOException e) {
+            System.err.println("Erro ao exportar métricas: " + e.getMessage());
+        }
     }
-} 
\ No newline at end of file
+}
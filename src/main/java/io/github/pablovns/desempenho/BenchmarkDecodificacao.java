@@ -0,0 +1,107 @@
+package io.github.pablovns.desempenho;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.utils.LocalDateTimeAdapter;
+import io.github.pablovns.utils.NoticiaAdapter;
+import io.github.pablovns.utils.TipoNoticiaAdapter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compara a decodificação de uma página sintética da API do IBGE pelo Gson com reflexão
+ * (árvore {@code JsonObject} e conversão item a item, como era feito antes) e pelo {@link NoticiaAdapter}
+ * lendo os tokens diretamente, como faz o {@code NoticiaService}.
+ * <p>
+ * Propriedades (todas opcionais):
+ * <ul>
+ *     <li>{@code benchmark.itens} - quantidade de itens da página (padrão 100000)</li>
+ *     <li>{@code benchmark.aquecimento} - rodadas descartadas antes da medição (padrão 5)</li>
+ *     <li>{@code benchmark.rodadas} - rodadas medidas; é informada a mediana (padrão 10)</li>
+ * </ul>
+ */
+public class BenchmarkDecodificacao {
+
+    public static void main(String[] args) throws IOException {
+        int itens = Integer.getInteger("benchmark.itens", 100_000);
+        int aquecimento = Integer.getInteger("benchmark.aquecimento", 5);
+        int rodadas = Integer.getInteger("benchmark.rodadas", 10);
+
+        String pagina = PaginaSintetica.gerar(itens, 1, 1, 40_000, "mensal");
+        // Sem anotações na classe Noticia, o nome do campo da data é mapeado aqui
+        Gson gsonReflexivo = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .registerTypeAdapter(TipoNoticia.class, new TipoNoticiaAdapter())
+                .setFieldNamingStrategy(campo -> campo.getName().equals("dataPublicacao") ? "data_publicacao" : campo.getName())
+                .create();
+        NoticiaAdapter adapter = new NoticiaAdapter();
+
+        System.out.printf("Página sintética: %d itens, %d KiB%n", itens, pagina.length() / 1024);
+        System.out.printf("Gson com reflexão: %d ms%n", medir(aquecimento, rodadas, () -> decodificarComReflexao(gsonReflexivo, pagina)));
+        System.out.printf("Adapter de tokens: %d ms%n", medir(aquecimento, rodadas, () -> decodificarComAdapter(adapter, pagina)));
+    }
+
+    private static List<Noticia> decodificarComReflexao(Gson gson, String pagina) {
+        List<Noticia> noticias = new ArrayList<>();
+        for (JsonElement item : JsonParser.parseString(pagina).getAsJsonObject().getAsJsonArray("items")) {
+            noticias.add(gson.fromJson(item, Noticia.class));
+        }
+        return noticias;
+    }
+
+    private static List<Noticia> decodificarComAdapter(NoticiaAdapter adapter, String pagina) throws IOException {
+        List<Noticia> noticias = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new StringReader(pagina))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("items")) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    noticias.add(adapter.read(reader));
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+        }
+        return noticias;
+    }
+
+    private static long medir(int aquecimento, int rodadas, Decodificacao decodificacao) throws IOException {
+        int total = 0;
+        for (int i = 0; i < aquecimento; i++) {
+            total += decodificacao.executar().size();
+        }
+
+        long[] duracoes = new long[rodadas];
+        for (int i = 0; i < rodadas; i++) {
+            long inicio = System.nanoTime();
+            total += decodificacao.executar().size();
+            duracoes[i] = System.nanoTime() - inicio;
+        }
+
+        // Usa o total para que a decodificação não seja descartada como código morto
+        if (total < 0) {
+            System.out.println(total);
+        }
+        Arrays.sort(duracoes);
+        return duracoes[rodadas / 2] / 1_000_000;
+    }
+
+    @FunctionalInterface
+    private interface Decodificacao {
+        List<Noticia> executar() throws IOException;
+    }
+}
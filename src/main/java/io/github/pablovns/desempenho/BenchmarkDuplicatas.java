@@ -0,0 +1,94 @@
+package io.github.pablovns.desempenho;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.utils.DetectorDuplicatas;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mede a indexação de notícias sintéticas pelo {@link DetectorDuplicatas} e confere os grupos formados.
+ * <p>
+ * Metade das notícias geradas tem um release correspondente, com uma palavra da introdução trocada;
+ * as demais são textos independentes. São informados o tempo total, os releases que não foram
+ * agrupados com a notícia original e as notícias independentes agrupadas por engano.
+ * <p>
+ * Propriedades (todas opcionais):
+ * <ul>
+ *     <li>{@code benchmark.itens} - quantidade de notícias indexadas (padrão 200000)</li>
+ *     <li>{@code benchmark.semente} - semente do gerador de textos (padrão 42)</li>
+ * </ul>
+ */
+public class BenchmarkDuplicatas {
+    private static final int TAMANHO_VOCABULARIO = 5_000;
+    private static final int PALAVRAS_TITULO = 8;
+    private static final int PALAVRAS_INTRODUCAO = 20;
+
+    public static void main(String[] args) {
+        int itens = Integer.getInteger("benchmark.itens", 200_000);
+        Random aleatorio = new Random(Long.getLong("benchmark.semente", 42));
+
+        List<Noticia> noticias = new ArrayList<>(itens);
+        // Pares nas posições pares/ímpares do início da lista; o restante são notícias independentes
+        int pares = itens / 4;
+        for (int i = 0; i < pares; i++) {
+            String titulo = gerarTexto(aleatorio, PALAVRAS_TITULO);
+            String[] introducao = gerarTexto(aleatorio, PALAVRAS_INTRODUCAO).split(" ");
+            noticias.add(noticia(2L * i, TipoNoticia.NOTICIA, titulo, String.join(" ", introducao)));
+            introducao[aleatorio.nextInt(introducao.length)] = gerarPalavra(aleatorio);
+            noticias.add(noticia(2L * i + 1, TipoNoticia.RELEASE, titulo, String.join(" ", introducao)));
+        }
+        for (long id = 2L * pares; id < itens; id++) {
+            noticias.add(noticia(id, TipoNoticia.NOTICIA, gerarTexto(aleatorio, PALAVRAS_TITULO),
+                    gerarTexto(aleatorio, PALAVRAS_INTRODUCAO)));
+        }
+
+        DetectorDuplicatas detector = new DetectorDuplicatas();
+        long[] grupos = new long[itens];
+        long inicio = System.nanoTime();
+        for (Noticia noticia : noticias) {
+            grupos[noticia.getId().intValue()] = detector.agrupar(noticia);
+        }
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        int releasesNaoAgrupados = 0;
+        for (int i = 0; i < pares; i++) {
+            if (grupos[2 * i + 1] != 2L * i) {
+                releasesNaoAgrupados++;
+            }
+        }
+        int agrupamentosIndevidos = 0;
+        for (int id = 2 * pares; id < itens; id++) {
+            if (grupos[id] != id) {
+                agrupamentosIndevidos++;
+            }
+        }
+
+        System.out.printf("Notícias indexadas: %d em %d ms (%.1f µs por notícia)%n", itens, duracaoMs, duracaoMs * 1000.0 / itens);
+        System.out.printf("Releases não agrupados: %d de %d%n", releasesNaoAgrupados, pares);
+        System.out.printf("Notícias independentes agrupadas por engano: %d de %d%n", agrupamentosIndevidos, itens - 2 * pares);
+    }
+
+    private static String gerarTexto(Random aleatorio, int palavras) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < palavras; i++) {
+            if (i > 0) {
+                texto.append(' ');
+            }
+            texto.append(gerarPalavra(aleatorio));
+        }
+        return texto.toString();
+    }
+
+    private static String gerarPalavra(Random aleatorio) {
+        return "p" + aleatorio.nextInt(TAMANHO_VOCABULARIO);
+    }
+
+    private static Noticia noticia(long id, TipoNoticia tipo, String titulo, String introducao) {
+        return new Noticia(id, titulo, introducao, LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id),
+                "http://agenciadenoticias.ibge.gov.br/noticias/" + id + ".html", tipo);
+    }
+}
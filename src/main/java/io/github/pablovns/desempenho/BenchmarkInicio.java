@@ -0,0 +1,76 @@
+package io.github.pablovns.desempenho;
+
+import io.github.pablovns.ui.MenuPrincipal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Mede o tempo entre o início da JVM e a exibição do primeiro menu.
+ * Executa o programa com uma entrada simulada que encerra logo no primeiro menu
+ * e também serve como execução de treino para gerar o arquivo AppCDS (perfil {@code cds}).
+ * <p>
+ * O programa roda sobre uma cópia de {@code dados/usuario.json} (quando existe) em um diretório
+ * temporário, apagado no final, para que o arquivo real do usuário nunca seja alterado.
+ */
+public class BenchmarkInicio {
+    // Nome usado caso ainda não exista usuário salvo; com usuário salvo é ignorado como opção inválida
+    private static final String ENTRADA_SIMULADA = "Benchmark\n0\n";
+
+    public static void main(String[] args) throws IOException {
+        Path diretorio = Files.createTempDirectory("benchmark-inicio");
+        Path arquivoUsuario = Paths.get("dados", "usuario.json");
+        if (Files.isRegularFile(arquivoUsuario)) {
+            Files.copy(arquivoUsuario, diretorio.resolve("usuario.json"));
+        }
+        System.setProperty("usuario.diretorio", diretorio.toString());
+
+        PrintStream saidaOriginal = System.out;
+        DetectorPrimeiroMenu detector = new DetectorPrimeiroMenu();
+
+        System.setIn(new ByteArrayInputStream(ENTRADA_SIMULADA.getBytes(StandardCharsets.UTF_8)));
+        System.setOut(detector);
+        try {
+            new MenuPrincipal().iniciar();
+        } finally {
+            System.setOut(saidaOriginal);
+            apagar(diretorio);
+        }
+
+        long inicioJvm = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println("Tempo até o primeiro menu: " + (detector.instantePrimeiroMenu - inicioJvm) + " ms");
+    }
+
+    private static void apagar(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(arquivo);
+            }
+        }
+    }
+
+    // Descarta a saída do menu e registra o instante em que a primeira opção é solicitada
+    private static class DetectorPrimeiroMenu extends PrintStream {
+        private long instantePrimeiroMenu;
+
+        DetectorPrimeiroMenu() {
+            super(OutputStream.nullOutputStream());
+        }
+
+        @Override
+        public void println(String x) {
+            if (instantePrimeiroMenu == 0 && MenuPrincipal.ESCOLHA_UMA_OPCAO.equals(x)) {
+                instantePrimeiroMenu = System.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.pablovns.desempenho;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.services.AgendadorRequisicoes;
+import io.github.pablovns.services.NoticiaService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa buscas concorrentes pelo {@link NoticiaService} e informa vazão e percentis de latência.
+ * As buscas usam um {@link AgendadorRequisicoes} próprio, que admite {@code carga.concorrencia} requisições
+ * simultâneas, para que o resultado não se limite à configuração do agendador compartilhado.
+ * <p>
+ * Propriedades (todas opcionais):
+ * <ul>
+ *     <li>{@code carga.url} - URL base da API (padrão: o {@code ServidorSimuladoIbge} local na porta 8089)</li>
+ *     <li>{@code carga.concorrencia} - buscas simultâneas (padrão 8)</li>
+ *     <li>{@code carga.requisicoes} - total de buscas (padrão 200)</li>
+ *     <li>{@code carga.requisicoesPorSegundo} - limite de taxa do agendador (padrão 1000000, na prática sem limite)</li>
+ *     <li>{@code carga.termos} - termos de busca separados por vírgula, usados em rodízio</li>
+ * </ul>
+ */
+public class GeradorCarga {
+    private static final String URL_PADRAO = "http://localhost:8089" + ServidorSimuladoIbge.CAMINHO;
+    private static final String TERMOS_PADRAO = "inflação,desemprego,censo,PIB,indústria,agricultura";
+
+    public static void main(String[] args) throws InterruptedException {
+        String url = System.getProperty("carga.url", URL_PADRAO);
+        int concorrencia = Integer.getInteger("carga.concorrencia", 8);
+        int requisicoes = Integer.getInteger("carga.requisicoes", 200);
+        double requisicoesPorSegundo = Double.parseDouble(System.getProperty("carga.requisicoesPorSegundo", "1000000"));
+        String[] termos = System.getProperty("carga.termos", TERMOS_PADRAO).split(",");
+
+        AgendadorRequisicoes agendador = new AgendadorRequisicoes(requisicoesPorSegundo, concorrencia, concorrencia);
+        Resultado resultado = executar(new NoticiaService(url, agendador), concorrencia, requisicoes, termos);
+        System.out.println(resultado);
+    }
+
+    public static Resultado executar(NoticiaService service, int concorrencia, int requisicoes, String[] termos)
+            throws InterruptedException {
+        long[] latencias = new long[requisicoes];
+        AtomicInteger falhas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concorrencia);
+
+        long inicio = System.nanoTime();
+        try {
+            List<Future<?>> tarefas = new ArrayList<>(requisicoes);
+            for (int i = 0; i < requisicoes; i++) {
+                final int indice = i;
+                tarefas.add(executor.submit(() -> {
+                    String termo = termos[indice % termos.length].trim();
+                    long inicioBusca = System.nanoTime();
+                    Optional<List<Noticia>> noticias = service.buscarPorPalavrasChave(termo);
+                    latencias[indice] = System.nanoTime() - inicioBusca;
+                    if (noticias.isEmpty()) {
+                        falhas.incrementAndGet(); // Optional vazio indica erro na busca
+                    }
+                }));
+            }
+
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro inesperado no gerador de carga", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        Arrays.sort(latencias);
+        return new Resultado(requisicoes, falhas.get(), duracao, latencias);
+    }
+
+    public record Resultado(int requisicoes, int falhas, long duracaoNanos, long[] latenciasOrdenadas) {
+
+        public double vazaoPorSegundo() {
+            return requisicoes / (duracaoNanos / 1e9);
+        }
+
+        public double percentilMs(double percentil) {
+            if (latenciasOrdenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(percentil / 100 * latenciasOrdenadas.length) - 1;
+            return latenciasOrdenadas[Math.max(indice, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("""
+                    Requisições: %d (falhas: %d)
+                    Duração: %.2f s
+                    Vazão: %.1f req/s
+                    Latência (ms): p50 %.1f | p90 %.1f | p99 %.1f | máx %.1f""",
+                    requisicoes, falhas,
+                    duracaoNanos / 1e9,
+                    vazaoPorSegundo(),
+                    percentilMs(50), percentilMs(90), percentilMs(99), percentilMs(100)
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.pablovns.desempenho;
+
+/**
+ * Gera páginas de resposta no formato da API de notícias do IBGE, com itens sintéticos.
+ * Os itens incluem os campos que a aplicação ignora ({@code produtos}, {@code imagens} etc.),
+ * para que a decodificação tenha o mesmo trabalho que teria com uma resposta real.
+ */
+class PaginaSintetica {
+
+    private PaginaSintetica() {
+        throw new IllegalStateException("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * @param itens        quantidade de itens da página
+     * @param pagina       número da página (a partir de 1)
+     * @param totalPaginas total de páginas informado na resposta
+     * @param idInicial    ID do primeiro item; os seguintes são consecutivos
+     * @param assunto      texto incluído nos títulos, para que buscas por palavra-chave encontrem os itens
+     */
+    static String gerar(int itens, int pagina, int totalPaginas, long idInicial, String assunto) {
+        StringBuilder json = new StringBuilder(itens * 400 + 100);
+        json.append("{\"count\":").append((long) itens * totalPaginas)
+                .append(",\"page\":").append(pagina)
+                .append(",\"totalPages\":").append(totalPaginas)
+                .append(",\"items\":[");
+        for (int i = 0; i < itens; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            long id = idInicial + i;
+            json.append("{\"id\":").append(id)
+                    .append(",\"tipo\":\"").append(id % 3 == 0 ? "Release" : "Notícia")
+                    .append("\",\"titulo\":\"Pesquisa ").append(escapar(assunto)).append(" número ").append(id).append(" do IBGE\"")
+                    .append(",\"introducao\":\"Indicadores de produção e emprego apresentaram variação no período analisado.\"")
+                    .append(",\"data_publicacao\":\"").append(String.format("%02d/05/2025 10:%02d:00", id % 28 + 1, id % 60))
+                    .append("\",\"produto_id\":").append(9_000 + id % 50)
+                    .append(",\"produtos\":\"").append(9_000 + id % 50).append("|Pesquisa|pesquisa\"")
+                    .append(",\"editorias\":\"economicas\",\"imagens\":\"{\\\"image_intro\\\":\\\"images/foto.jpg\\\"}\"")
+                    .append(",\"produtos_relacionados\":\"\",\"destaque\":").append(id % 7 == 0)
+                    .append(",\"link\":\"http://agenciadenoticias.ibge.gov.br/noticias/").append(id).append(".html\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String escapar(String texto) {
+        return texto.replaceAll("\\p{Cntrl}", " ").replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.pablovns.desempenho;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Servidor HTTP local que imita a API de notícias do IBGE para testes de desempenho reproduzíveis.
+ * <p>
+ * Responde com gravações de respostas reais guardadas em {@code simulador.diretorio}, uma por
+ * consulta. Com {@code simulador.gravarDe} definido, consultas ainda não gravadas são repassadas
+ * à URL informada e a resposta é gravada antes de ser devolvida. Sem nenhuma gravação, responde
+ * com páginas sintéticas, respeitando {@code qtd} e {@code page}, para que funcione sem acessar a API real.
+ * <p>
+ * Propriedades (todas opcionais):
+ * <ul>
+ *     <li>{@code simulador.porta} - porta HTTP (padrão 8089)</li>
+ *     <li>{@code simulador.diretorio} - diretório das gravações (padrão {@code dados/gravacoes})</li>
+ *     <li>{@code simulador.latenciaMs} - atraso mínimo de cada resposta (padrão 0)</li>
+ *     <li>{@code simulador.variacaoMs} - atraso adicional aleatório, de 0 até o valor (padrão 0)</li>
+ *     <li>{@code simulador.taxaErro} - fração das respostas devolvidas com status 503 (padrão 0)</li>
+ *     <li>{@code simulador.tamanhoPagina} - quantidade de itens por resposta; os itens gravados são
+ *     repetidos com novos IDs até atingir o tamanho (padrão: o da gravação)</li>
+ *     <li>{@code simulador.gravarDe} - URL base da API real para gravar novas consultas</li>
+ *     <li>{@code simulador.totalPaginas} - total de páginas das respostas sintéticas (padrão 3)</li>
+ * </ul>
+ * A URL base a ser usada pelo {@code NoticiaService} (propriedade {@code ibge.url}) é
+ * {@code http://localhost:<porta>/api/v3/noticias}.
+ */
+public class ServidorSimuladoIbge {
+    public static final String CAMINHO = "/api/v3/noticias";
+    // Soma aos IDs dos itens repetidos para que continuem únicos
+    private static final long DESLOCAMENTO_ID = 1_000_000_000L;
+    // Quantidade de itens por página da API quando a consulta não informa "qtd"
+    private static final int ITENS_POR_PAGINA_API = 10;
+
+    private final Path diretorio;
+    private final long latenciaMs;
+    private final long variacaoMs;
+    private final double taxaErro;
+    private final int tamanhoPagina;
+    private final String gravarDe;
+    private final int totalPaginasSinteticas;
+    // Criado só quando há gravação, e reaproveitado por todas as consultas repassadas
+    private final HttpClient clienteGravacao;
+    private HttpServer servidor;
+    private ExecutorService executor;
+
+    public ServidorSimuladoIbge(Path diretorio, long latenciaMs, long variacaoMs, double taxaErro,
+                                int tamanhoPagina, String gravarDe, int totalPaginasSinteticas) {
+        this.diretorio = diretorio;
+        this.latenciaMs = latenciaMs;
+        this.variacaoMs = variacaoMs;
+        this.taxaErro = taxaErro;
+        this.tamanhoPagina = tamanhoPagina;
+        this.gravarDe = gravarDe;
+        this.totalPaginasSinteticas = totalPaginasSinteticas;
+        this.clienteGravacao = gravarDe == null ? null : HttpClient.newHttpClient();
+    }
+
+    public static void main(String[] args) throws IOException {
+        ServidorSimuladoIbge simulador = new ServidorSimuladoIbge(
+                Paths.get(System.getProperty("simulador.diretorio", "dados/gravacoes")),
+                Long.getLong("simulador.latenciaMs", 0),
+                Long.getLong("simulador.variacaoMs", 0),
+                Double.parseDouble(System.getProperty("simulador.taxaErro", "0")),
+                Integer.getInteger("simulador.tamanhoPagina", 0),
+                System.getProperty("simulador.gravarDe"),
+                Integer.getInteger("simulador.totalPaginas", 3));
+
+        int porta = Integer.getInteger("simulador.porta", 8089);
+        simulador.iniciar(porta);
+        System.out.println("Simulador da API do IBGE em http://localhost:" + porta + CAMINHO);
+    }
+
+    public void iniciar(int porta) throws IOException {
+        Files.createDirectories(diretorio);
+        executor = Executors.newCachedThreadPool();
+        servidor = HttpServer.create(new InetSocketAddress(porta), 0);
+        servidor.createContext(CAMINHO, this::responder);
+        servidor.setExecutor(executor);
+        servidor.start();
+    }
+
+    public void parar() {
+        servidor.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        try {
+            aguardarLatencia();
+
+            if (taxaErro > 0 && ThreadLocalRandom.current().nextDouble() < taxaErro) {
+                enviar(troca, 503, "{\"erro\":\"falha simulada\"}");
+                return;
+            }
+
+            String consulta = troca.getRequestURI().getRawQuery();
+            consulta = consulta == null ? "" : consulta;
+            String corpo = obterGravacao(consulta);
+            if (corpo == null) {
+                if (gravarDe != null) {
+                    enviar(troca, 404, "{\"erro\":\"consulta não gravada\"}");
+                } else {
+                    enviar(troca, 200, gerarPaginaSintetica(consulta));
+                }
+                return;
+            }
+
+            enviar(troca, 200, tamanhoPagina > 0 ? ajustarTamanhoPagina(corpo) : corpo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            troca.close();
+        }
+    }
+
+    private void aguardarLatencia() throws InterruptedException {
+        long atraso = latenciaMs + (variacaoMs > 0 ? ThreadLocalRandom.current().nextLong(variacaoMs + 1) : 0);
+        if (atraso > 0) {
+            Thread.sleep(atraso);
+        }
+    }
+
+    /**
+     * Gera a página pedida com itens sintéticos. Os IDs dependem da consulta (sem a página),
+     * para que consultas diferentes, como as janelas de uma busca por período, não repitam notícias.
+     */
+    private String gerarPaginaSintetica(String consulta) {
+        Map<String, String> parametros = new HashMap<>();
+        for (String parametro : consulta.split("&")) {
+            String[] chaveValor = parametro.split("=", 2);
+            if (chaveValor.length == 2) {
+                parametros.put(chaveValor[0], URLDecoder.decode(chaveValor[1], StandardCharsets.UTF_8));
+            }
+        }
+
+        int pagina = Math.max(1, lerInteiro(parametros.get("page"), 1));
+        int itens = tamanhoPagina > 0 ? tamanhoPagina : Math.max(1, lerInteiro(parametros.get("qtd"), ITENS_POR_PAGINA_API));
+        if (pagina > totalPaginasSinteticas) {
+            return PaginaSintetica.gerar(0, pagina, totalPaginasSinteticas, 1, "");
+        }
+
+        String filtro = consulta.replaceAll("(^|&)page=[^&]*", "");
+        long idInicial = Math.floorMod(filtro.hashCode(), 100_000) * 100_000L + (long) (pagina - 1) * itens + 1;
+        String assunto = parametros.getOrDefault("palavraChave", parametros.getOrDefault("busca", "mensal"));
+        return PaginaSintetica.gerar(itens, pagina, totalPaginasSinteticas, idInicial, assunto);
+    }
+
+    private static int lerInteiro(String valor, int padrao) {
+        try {
+            return valor == null ? padrao : Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            return padrao;
+        }
+    }
+
+    /**
+     * Procura a gravação da consulta; sem gravação exata, usa a primeira gravação disponível,
+     * para que consultas com termos variados (como as do gerador de carga) também sejam respondidas.
+     */
+    private String obterGravacao(String consulta) throws IOException, InterruptedException {
+        Path arquivo = diretorio.resolve(nomeArquivo(consulta));
+        if (Files.exists(arquivo)) {
+            return Files.readString(arquivo, StandardCharsets.UTF_8);
+        }
+
+        if (gravarDe != null) {
+            return gravar(consulta, arquivo);
+        }
+
+        try (Stream<Path> gravacoes = Files.list(diretorio)) {
+            Path qualquer = gravacoes.filter(p -> p.toString().endsWith(".json")).sorted().findFirst().orElse(null);
+            return qualquer == null ? null : Files.readString(qualquer, StandardCharsets.UTF_8);
+        }
+    }
+
+    private String gravar(String consulta, Path arquivo) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(gravarDe + "/?" + consulta))
+                .GET()
+                .build();
+        HttpResponse<String> response = clienteGravacao.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+
+        Files.writeString(arquivo, response.body(), StandardCharsets.UTF_8);
+        return response.body();
+    }
+
+    // Repete (ou corta) os itens gravados até o tamanho de página configurado
+    private String ajustarTamanhoPagina(String corpo) {
+        JsonObject resposta = JsonParser.parseString(corpo).getAsJsonObject();
+        JsonArray itens = resposta.getAsJsonArray("items");
+        if (itens == null || itens.isEmpty()) {
+            return corpo;
+        }
+
+        JsonArray ajustados = new JsonArray(tamanhoPagina);
+        for (int i = 0; i < tamanhoPagina; i++) {
+            JsonObject item = itens.get(i % itens.size()).getAsJsonObject().deepCopy();
+            long repeticao = i / itens.size();
+            if (repeticao > 0 && item.has("id")) {
+                item.addProperty("id", item.get("id").getAsLong() + repeticao * DESLOCAMENTO_ID);
+            }
+            ajustados.add(item);
+        }
+
+        resposta.add("items", ajustados);
+        return resposta.toString();
+    }
+
+    private static String nomeArquivo(String consulta) {
+        String seguro = consulta.replaceAll("[^a-zA-Z0-9=&._-]", "_");
+        if (seguro.isEmpty()) {
+            seguro = "_";
+        }
+        // Evita nomes longos demais, mantendo-os distintos
+        if (seguro.length() > 100) {
+            seguro = seguro.substring(0, 100) + "_" + Integer.toHexString(consulta.hashCode());
+        }
+        return seguro + ".json";
+    }
+
+    private static void enviar(HttpExchange troca, int status, String corpo) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        troca.sendResponseHeaders(status, bytes.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(bytes);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package io.github.pablovns.domain;
 
-import com.google.gson.annotations.SerializedName;
-
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -15,7 +13,6 @@ public class Noticia {
     private Long id;
     private String titulo;
     private String introducao;
-    @SerializedName("data_publicacao")
     private LocalDateTime dataPublicacao;
     private String link;
     private TipoNoticia tipo;
@@ -23,13 +20,6 @@ public class Noticia {
     private boolean favorita;
     private boolean paraLerDepois;
 
-    // Construtor padrão necessário para o Gson
-    public Noticia() {
-        this.lida = false;
-        this.favorita = false;
-        this.paraLerDepois = false;
-    }
-
     public Noticia(Long id, String titulo, String introducao, LocalDateTime dataPublicacao, String link, TipoNoticia tipo) {
         this.id = id;
         this.titulo = titulo;
@@ -102,7 +92,7 @@ public class Noticia {
                 Status: %s | %s | %s""",
                 titulo,
                 introducao,
-                dataPublicacao.format(FORMATADOR),
+                dataPublicacao != null ? dataPublicacao.format(FORMATADOR) : "Não informada",
                 tipo.getDescricao(),
                 link,
                 lida ? "Lida" : "Não lida",
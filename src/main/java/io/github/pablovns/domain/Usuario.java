@@ -1,8 +1,14 @@
 package io.github.pablovns.domain;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -11,10 +17,15 @@ import java.util.function.Predicate;
 public class Usuario {
     private String nome;
     private final List<Noticia> noticias;
+    private final List<String> buscasSalvas;
+    private final List<Noticia> novidades;
+    private final Set<Long> novidadesVistas;
 
-    // Construtor padrão necessário para o Gson
-    public Usuario() {
+    private Usuario() {
         this.noticias = new ArrayList<>();
+        this.buscasSalvas = new ArrayList<>();
+        this.novidades = new ArrayList<>();
+        this.novidadesVistas = new LinkedHashSet<>();
     }
 
     public Usuario(String nome) {
@@ -30,6 +41,58 @@ public class Usuario {
         return noticias;
     }
 
+    public List<String> getBuscasSalvas() {
+        return buscasSalvas;
+    }
+
+    /**
+     * Notícias encontradas pelas buscas salvas e ainda não vistas pelo usuário.
+     */
+    public List<Noticia> getNovidades() {
+        return novidades;
+    }
+
+    /**
+     * IDs das notícias que já foram apresentadas ao usuário como novidade ou como resultado
+     * de uma busca, incluindo as que já foram limpas. Essas notícias não voltam às novidades.
+     */
+    public Set<Long> getNovidadesVistas() {
+        return novidadesVistas;
+    }
+
+    public boolean adicionarBuscaSalva(String termo) {
+        boolean existe = buscasSalvas.stream()
+                .anyMatch(b -> b.equalsIgnoreCase(termo));
+        if (existe) {
+            return false;
+        }
+        buscasSalvas.add(termo);
+        return true;
+    }
+
+    public boolean removerBuscaSalva(String termo) {
+        return buscasSalvas.removeIf(b -> b.equalsIgnoreCase(termo));
+    }
+
+    public boolean adicionarNovidade(Noticia noticia) {
+        if (!novidadesVistas.add(noticia.getId())) {
+            return false;
+        }
+        novidades.add(noticia);
+        return true;
+    }
+
+    public boolean marcarNovidadeVista(Long id) {
+        return novidadesVistas.add(id);
+    }
+
+    /**
+     * Remove as novidades atuais; elas continuam registradas como vistas.
+     */
+    public void limparNovidades() {
+        novidades.clear();
+    }
+
     public void salvarOuAtualizarNoticia(Noticia noticia) {
         Optional<Noticia> noticiaOptional = obterNoticia(noticia.getId());
 
@@ -45,6 +108,55 @@ public class Usuario {
         }
     }
 
+    /**
+     * Aplica a alteração, em uma única passagem, a todas as notícias da lista que atendem ao critério.
+     * Notícias ainda não salvas são adicionadas ao usuário, e os itens da lista são substituídos
+     * pelas instâncias salvas para refletir as alterações.
+     *
+     * @return quantidade de notícias alteradas
+     */
+    public int alterarEmLote(List<Noticia> selecionadas, Predicate<Noticia> criterio, Consumer<Noticia> alteracao) {
+        Map<Long, Noticia> salvasPorId = new HashMap<>();
+        for (Noticia noticia : noticias) {
+            salvasPorId.putIfAbsent(noticia.getId(), noticia);
+        }
+
+        int alteradas = 0;
+        ListIterator<Noticia> iterator = selecionadas.listIterator();
+        while (iterator.hasNext()) {
+            Noticia selecionada = iterator.next();
+            Noticia salva = salvasPorId.get(selecionada.getId());
+            Noticia alvo = salva != null ? salva : selecionada;
+
+            if (criterio.test(alvo)) {
+                if (salva == null) {
+                    noticias.add(alvo);
+                    salvasPorId.put(alvo.getId(), alvo);
+                }
+                alteracao.accept(alvo);
+                alteradas++;
+            }
+            iterator.set(alvo);
+        }
+        return alteradas;
+    }
+
+    /**
+     * Aplica a alteração a todas as notícias salvas que atendem ao critério.
+     *
+     * @return quantidade de notícias alteradas
+     */
+    public int alterarEmLote(Predicate<Noticia> criterio, Consumer<Noticia> alteracao) {
+        int alteradas = 0;
+        for (Noticia noticia : noticias) {
+            if (criterio.test(noticia)) {
+                alteracao.accept(noticia);
+                alteradas++;
+            }
+        }
+        return alteradas;
+    }
+
     public boolean noticiaExiste(Long idNoticia) {
         return noticias.stream()
                 .anyMatch(n -> n.getId().equals(idNoticia));
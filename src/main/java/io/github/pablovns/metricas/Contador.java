@@ -0,0 +1,35 @@
+package io.github.pablovns.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador monotônico seguro para uso concorrente.
+ */
+public class Contador {
+    private final String nome;
+    private final String descricao;
+    private final LongAdder valor = new LongAdder();
+
+    Contador(String nome, String descricao) {
+        this.nome = nome;
+        this.descricao = descricao;
+    }
+
+    public void incrementar() {
+        valor.increment();
+    }
+
+    public void adicionar(long quantidade) {
+        valor.add(quantidade);
+    }
+
+    public long getValor() {
+        return valor.sum();
+    }
+
+    void exportarPrometheus(StringBuilder saida) {
+        saida.append("# HELP ").append(nome).append(' ').append(descricao).append('\n');
+        saida.append("# TYPE ").append(nome).append(" counter\n");
+        saida.append(nome).append(' ').append(getValor()).append('\n');
+    }
+}
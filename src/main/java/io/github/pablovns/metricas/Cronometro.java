@@ -0,0 +1,27 @@
+package io.github.pablovns.metricas;
+
+/**
+ * Mede a duração de uma etapa, registrando-a no histograma correspondente e como evento JFR.
+ * Deve ser parado em um bloco {@code finally}, para que etapas que falham também sejam medidas.
+ */
+public class Cronometro {
+    private final Histograma histograma;
+    private final EventoEtapa evento;
+    private final long inicio;
+
+    Cronometro(String etapa, Histograma histograma) {
+        this.histograma = histograma;
+        this.evento = new EventoEtapa();
+        this.evento.etapa = etapa;
+        this.evento.begin();
+        this.inicio = System.nanoTime();
+    }
+
+    public void parar() {
+        histograma.registrar(System.nanoTime() - inicio);
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.commit();
+        }
+    }
+}
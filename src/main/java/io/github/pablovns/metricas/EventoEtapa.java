@@ -0,0 +1,19 @@
+package io.github.pablovns.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR emitido a cada etapa medida (requisição HTTP, decodificação JSON, persistência).
+ * Permite atribuir regressões de latência a uma etapa específica em gravações do Flight Recorder.
+ */
+@Name("io.github.pablovns.Etapa")
+@Label("Etapa")
+@Category("Notícias IBGE")
+@Description("Duração de uma etapa de busca, decodificação ou persistência")
+class EventoEtapa extends jdk.jfr.Event {
+    @Label("Etapa")
+    String etapa;
+}
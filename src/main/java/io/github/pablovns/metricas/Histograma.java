@@ -0,0 +1,60 @@
+package io.github.pablovns.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências com faixas fixas, no formato usado pelo Prometheus.
+ * Os valores são registrados em nanossegundos e exportados em segundos.
+ */
+public class Histograma {
+    private static final double[] LIMITES_SEGUNDOS = {
+            0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private final String nome;
+    private final String descricao;
+    private final LongAdder[] contagemPorFaixa = new LongAdder[LIMITES_SEGUNDOS.length];
+    private final LongAdder contagem = new LongAdder();
+    private final LongAdder somaNanos = new LongAdder();
+
+    Histograma(String nome, String descricao) {
+        this.nome = nome;
+        this.descricao = descricao;
+        for (int i = 0; i < contagemPorFaixa.length; i++) {
+            contagemPorFaixa[i] = new LongAdder();
+        }
+    }
+
+    public void registrar(long duracaoNanos) {
+        double segundos = duracaoNanos / 1e9;
+        for (int i = 0; i < LIMITES_SEGUNDOS.length; i++) {
+            if (segundos <= LIMITES_SEGUNDOS[i]) {
+                contagemPorFaixa[i].increment(); // Apenas a menor faixa; o acumulado é feito na exportação
+                break;
+            }
+        }
+        contagem.increment();
+        somaNanos.add(duracaoNanos);
+    }
+
+    public long getContagem() {
+        return contagem.sum();
+    }
+
+    void exportarPrometheus(StringBuilder saida) {
+        saida.append("# HELP ").append(nome).append(' ').append(descricao).append('\n');
+        saida.append("# TYPE ").append(nome).append(" histogram\n");
+
+        long acumulado = 0;
+        for (int i = 0; i < LIMITES_SEGUNDOS.length; i++) {
+            acumulado += contagemPorFaixa[i].sum();
+            saida.append(nome).append("_bucket{le=\"").append(LIMITES_SEGUNDOS[i]).append("\"} ")
+                    .append(acumulado).append('\n');
+        }
+
+        long total = getContagem();
+        saida.append(nome).append("_bucket{le=\"+Inf\"} ").append(total).append('\n');
+        saida.append(nome).append("_sum ").append(somaNanos.sum() / 1e9).append('\n');
+        saida.append(nome).append("_count ").append(total).append('\n');
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.pablovns.metricas;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Valor instantâneo (como o tamanho de uma fila), lido apenas no momento da exportação.
+ */
+public class Indicador {
+    private final String nome;
+    private final String descricao;
+    private final LongSupplier valor;
+
+    Indicador(String nome, String descricao, LongSupplier valor) {
+        this.nome = nome;
+        this.descricao = descricao;
+        this.valor = valor;
+    }
+
+    public long getValor() {
+        return valor.getAsLong();
+    }
+
+    void exportarPrometheus(StringBuilder saida) {
+        saida.append("# HELP ").append(nome).append(' ').append(descricao).append('\n');
+        saida.append("# TYPE ").append(nome).append(" gauge\n");
+        saida.append(nome).append(' ').append(getValor()).append('\n');
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.pablovns.metricas;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Registro central das métricas da aplicação.
+ * As métricas podem ser exportadas no formato texto do Prometheus; as durações das etapas
+ * também são emitidas como eventos JFR ({@code io.github.pablovns.Etapa}).
+ */
+public class Metricas {
+    private static final Map<String, Contador> CONTADORES = new ConcurrentHashMap<>();
+    private static final Map<String, Histograma> HISTOGRAMAS = new ConcurrentHashMap<>();
+    private static final Map<String, Indicador> INDICADORES = new ConcurrentHashMap<>();
+
+    public static final Histograma HTTP_DURACAO = histograma(
+            "noticias_http_duracao_segundos", "Duração da requisição HTTP à API do IBGE");
+    public static final Histograma JSON_DURACAO = histograma(
+            "noticias_json_decodificacao_segundos", "Duração da decodificação JSON de uma página de notícias");
+    public static final Histograma SALVAR_USUARIO_DURACAO = histograma(
+            "usuario_salvar_duracao_segundos", "Duração da gravação do arquivo do usuário");
+    public static final Histograma CARREGAR_USUARIO_DURACAO = histograma(
+            "usuario_carregar_duracao_segundos", "Duração da leitura do arquivo do usuário");
+    public static final Histograma ESPERA_INTERATIVA = histograma(
+            "noticias_agendador_espera_interativa_segundos", "Espera na fila das requisições interativas");
+    public static final Histograma ESPERA_SEGUNDO_PLANO = histograma(
+            "noticias_agendador_espera_segundo_plano_segundos", "Espera na fila das requisições em segundo plano");
+
+    public static final Contador ERROS_REQUISICAO = contador(
+            "noticias_requisicao_erros_total", "Requisições à API do IBGE que falharam");
+    public static final Contador FALHAS_PROCESSAMENTO = contador(
+            "noticias_processamento_falhas_total", "Notícias descartadas por erro de processamento");
+    public static final Contador BYTES_RECEBIDOS = contador(
+            "noticias_bytes_recebidos_total", "Bytes recebidos da API do IBGE");
+    public static final Contador BYTES_GRAVADOS = contador(
+            "usuario_bytes_gravados_total", "Bytes gravados no arquivo do usuário");
+    public static final Contador BYTES_LIDOS = contador(
+            "usuario_bytes_lidos_total", "Bytes lidos do arquivo do usuário");
+
+    private Metricas() {
+        throw new IllegalStateException("Classe utilitária não deve ser instanciada");
+    }
+
+    public static Contador contador(String nome, String descricao) {
+        return CONTADORES.computeIfAbsent(nome, n -> new Contador(n, descricao));
+    }
+
+    public static Histograma histograma(String nome, String descricao) {
+        return HISTOGRAMAS.computeIfAbsent(nome, n -> new Histograma(n, descricao));
+    }
+
+    /**
+     * Registra um indicador; se já existir um com o mesmo nome, o existente é mantido.
+     */
+    public static Indicador indicador(String nome, String descricao, LongSupplier valor) {
+        return INDICADORES.computeIfAbsent(nome, n -> new Indicador(n, descricao, valor));
+    }
+
+    /**
+     * Inicia a medição de uma etapa, registrada em {@code histograma} quando o cronômetro é parado.
+     */
+    public static Cronometro medir(String etapa, Histograma histograma) {
+        return new Cronometro(etapa, histograma);
+    }
+
+    public static String exportarPrometheus() {
+        StringBuilder saida = new StringBuilder();
+        CONTADORES.values().forEach(contador -> contador.exportarPrometheus(saida));
+        HISTOGRAMAS.values().forEach(histograma -> histograma.exportarPrometheus(saida));
+        INDICADORES.values().forEach(indicador -> indicador.exportarPrometheus(saida));
+        return saida.toString();
+    }
+
+    public static void exportarPrometheus(Writer writer) throws IOException {
+        writer.write(exportarPrometheus());
+    }
+}
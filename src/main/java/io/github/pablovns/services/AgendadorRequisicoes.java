@@ -0,0 +1,174 @@
+package io.github.pablovns.services;
+
+import io.github.pablovns.metricas.Metricas;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Controla o envio das requisições à API do IBGE.
+ * <p>
+ * Limita a taxa com um balde de fichas compartilhado por todos os chamadores, limita a quantidade
+ * de requisições em andamento e atende as requisições por prioridade: enquanto houver requisições
+ * interativas na fila, as de segundo plano (paginação de exportações, verificação de novidades) esperam.
+ * Dentro de cada prioridade, a ordem de chegada é respeitada.
+ * <p>
+ * A instância {@link #compartilhado()} é configurada pelas propriedades {@code ibge.requisicoesPorSegundo}
+ * (padrão 10), {@code ibge.rajada} (padrão 10) e {@code ibge.maximoEmAndamento} (padrão 8).
+ */
+public class AgendadorRequisicoes {
+
+    public enum Prioridade {
+        INTERATIVA,
+        SEGUNDO_PLANO,
+    }
+
+    @FunctionalInterface
+    public interface Requisicao<T> {
+        T executar() throws IOException, InterruptedException;
+    }
+
+    private final double fichasPorNano;
+    private final double capacidade;
+    private final int maximoEmAndamento;
+
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Condition mudanca = trava.newCondition();
+    private final Map<Prioridade, Deque<Object>> filas = new EnumMap<>(Prioridade.class);
+    private double fichas;
+    private long ultimaReposicao;
+    private int emAndamento;
+
+    public AgendadorRequisicoes(double requisicoesPorSegundo, int rajada, int maximoEmAndamento) {
+        if (requisicoesPorSegundo <= 0 || rajada < 1 || maximoEmAndamento < 1) {
+            throw new IllegalArgumentException("Parâmetros do agendador devem ser positivos");
+        }
+        this.fichasPorNano = requisicoesPorSegundo / 1e9;
+        this.capacidade = rajada;
+        this.maximoEmAndamento = maximoEmAndamento;
+        this.fichas = rajada;
+        this.ultimaReposicao = System.nanoTime();
+        for (Prioridade prioridade : Prioridade.values()) {
+            filas.put(prioridade, new ArrayDeque<>());
+        }
+    }
+
+    public static AgendadorRequisicoes compartilhado() {
+        return Instancia.AGENDADOR;
+    }
+
+    // Inicializada pela JVM apenas no primeiro uso
+    private static class Instancia {
+        private static final AgendadorRequisicoes AGENDADOR = new AgendadorRequisicoes(
+                Double.parseDouble(System.getProperty("ibge.requisicoesPorSegundo", "10")),
+                Integer.getInteger("ibge.rajada", 10),
+                Integer.getInteger("ibge.maximoEmAndamento", 8));
+
+        static {
+            Metricas.indicador("noticias_agendador_fila_interativa", "Requisições interativas aguardando na fila",
+                    () -> AGENDADOR.tamanhoFila(Prioridade.INTERATIVA));
+            Metricas.indicador("noticias_agendador_fila_segundo_plano", "Requisições em segundo plano aguardando na fila",
+                    () -> AGENDADOR.tamanhoFila(Prioridade.SEGUNDO_PLANO));
+            Metricas.indicador("noticias_agendador_em_andamento", "Requisições em andamento",
+                    AGENDADOR::getEmAndamento);
+        }
+    }
+
+    /**
+     * Aguarda a vez da requisição, conforme a prioridade, o limite de taxa e o limite de requisições
+     * em andamento, e então a executa.
+     */
+    public <T> T executar(Prioridade prioridade, Requisicao<T> requisicao) throws IOException, InterruptedException {
+        long inicio = System.nanoTime();
+        aguardarVez(prioridade);
+        (prioridade == Prioridade.INTERATIVA ? Metricas.ESPERA_INTERATIVA : Metricas.ESPERA_SEGUNDO_PLANO)
+                .registrar(System.nanoTime() - inicio);
+
+        try {
+            return requisicao.executar();
+        } finally {
+            liberar();
+        }
+    }
+
+    public int tamanhoFila(Prioridade prioridade) {
+        trava.lock();
+        try {
+            return filas.get(prioridade).size();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    public int getEmAndamento() {
+        trava.lock();
+        try {
+            return emAndamento;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void aguardarVez(Prioridade prioridade) throws InterruptedException {
+        Object vez = new Object();
+        trava.lock();
+        try {
+            Deque<Object> fila = filas.get(prioridade);
+            fila.addLast(vez);
+            try {
+                while (true) {
+                    if (proximaDaFila() != vez || emAndamento >= maximoEmAndamento) {
+                        mudanca.await();
+                        continue;
+                    }
+
+                    reporFichas();
+                    if (fichas >= 1) {
+                        fichas -= 1;
+                        emAndamento++;
+                        return;
+                    }
+                    // Espera apenas o tempo necessário para a próxima ficha
+                    mudanca.awaitNanos((long) Math.ceil((1 - fichas) / fichasPorNano));
+                }
+            } finally {
+                // Sai da fila (atendida ou interrompida) e avisa as demais para reavaliarem a vez
+                fila.remove(vez);
+                mudanca.signalAll();
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void liberar() {
+        trava.lock();
+        try {
+            emAndamento--;
+            mudanca.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private Object proximaDaFila() {
+        for (Prioridade prioridade : Prioridade.values()) {
+            Object primeira = filas.get(prioridade).peekFirst();
+            if (primeira != null) {
+                return primeira;
+            }
+        }
+        return null;
+    }
+
+    private void reporFichas() {
+        long agora = System.nanoTime();
+        fichas = Math.min(capacidade, fichas + (agora - ultimaReposicao) * fichasPorNano);
+        ultimaReposicao = agora;
+    }
+}
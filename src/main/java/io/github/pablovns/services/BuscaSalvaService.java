@@ -0,0 +1,90 @@
+package io.github.pablovns.services;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.Usuario;
+import io.github.pablovns.utils.AutomatoBuscas;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serviço responsável por avaliar as buscas salvas do usuário contra as notícias recebidas.
+ * Todos os termos salvos são reunidos em um único {@link AutomatoBuscas}, que é reconstruído
+ * apenas quando a lista de buscas muda.
+ */
+public class BuscaSalvaService {
+    private List<String> termosDoAutomato = List.of();
+    private AutomatoBuscas automato = new AutomatoBuscas(List.of());
+
+    /**
+     * Adiciona às novidades do usuário as notícias cujo título ou introdução contenham
+     * algum termo salvo, ignorando as já lidas e as que já foram novidade antes
+     * (mesmo que o usuário tenha limpado as novidades depois).
+     *
+     * @return quantidade de novidades adicionadas
+     */
+    public int avaliar(Usuario usuario, List<Noticia> noticias) {
+        int adicionadas = 0;
+        for (Noticia noticia : filtrarEncontradas(usuario, noticias)) {
+            if (usuario.adicionarNovidade(noticia)) {
+                adicionadas++;
+            }
+        }
+        return adicionadas;
+    }
+
+    /**
+     * Registra como vistas as notícias que correspondem a alguma busca salva, sem adicioná-las
+     * às novidades. Usado para os resultados de uma busca feita pelo próprio usuário, que já
+     * estão sendo exibidos a ele.
+     *
+     * @return quantidade de notícias registradas como vistas
+     */
+    public int marcarVistas(Usuario usuario, List<Noticia> noticias) {
+        int marcadas = 0;
+        for (Noticia noticia : filtrarEncontradas(usuario, noticias)) {
+            if (usuario.marcarNovidadeVista(noticia.getId())) {
+                marcadas++;
+            }
+        }
+        return marcadas;
+    }
+
+    // Notícias ainda não lidas nem vistas que contêm algum termo salvo
+    private List<Noticia> filtrarEncontradas(Usuario usuario, List<Noticia> noticias) {
+        AutomatoBuscas automatoAtual = obterAutomato(usuario.getBuscasSalvas());
+        if (automatoAtual.isVazio()) {
+            return List.of();
+        }
+
+        Set<Long> lidas = new HashSet<>();
+        for (Noticia salva : usuario.getNoticias()) {
+            if (salva.isLida()) {
+                lidas.add(salva.getId());
+            }
+        }
+        Set<Long> vistas = usuario.getNovidadesVistas();
+
+        List<Noticia> encontradas = new ArrayList<>();
+        for (Noticia noticia : noticias) {
+            Long id = noticia.getId();
+            if (lidas.contains(id) || vistas.contains(id)) {
+                continue;
+            }
+            if (!automatoAtual.encontrar(noticia.getTitulo(), noticia.getIntroducao()).isEmpty()) {
+                encontradas.add(noticia);
+            }
+        }
+        return encontradas;
+    }
+
+    private synchronized AutomatoBuscas obterAutomato(List<String> buscasSalvas) {
+        if (!termosDoAutomato.equals(buscasSalvas)) {
+            termosDoAutomato = List.copyOf(buscasSalvas);
+            automato = new AutomatoBuscas(termosDoAutomato);
+        }
+        return automato;
+    }
+}
@@ -0,0 +1,397 @@
+package io.github.pablovns.services;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.domain.Usuario;
+import io.github.pablovns.utils.ConfiguracaoGson;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serviço responsável por exportar e importar notícias em NDJSON ou CSV compactados com GZIP.
+ * A escrita e a leitura são feitas notícia a notícia, sem montar a lista completa em memória.
+ */
+public class ExportacaoService {
+    private static final String[] COLUNAS_CSV = {
+            "id", "titulo", "introducao", "data_publicacao", "link", "tipo", "lida", "favorita", "paraLerDepois"
+    };
+
+    public enum Formato {
+        NDJSON(".ndjson.gz"),
+        CSV(".csv.gz"),
+        ;
+
+        private final String extensao;
+
+        Formato(String extensao) {
+            this.extensao = extensao;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+
+        public static Optional<Formato> porArquivo(Path arquivo) {
+            String nome = arquivo.getFileName().toString().toLowerCase();
+            for (Formato formato : values()) {
+                if (nome.endsWith(formato.extensao)) {
+                    return Optional.of(formato);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public OptionalLong exportarNoticiasUsuario(Usuario usuario, Path destino, Formato formato) {
+        try (EscritorNoticias escritor = abrirEscritor(destino, formato)) {
+            for (Noticia noticia : usuario.getNoticias()) {
+                escritor.escrever(noticia);
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao exportar notícias do usuário: " + e.getMessage());
+            apagarSilenciosamente(destino);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(usuario.getNoticias().size());
+    }
+
+    /**
+     * Exporta todas as páginas da busca por palavras-chave, gravando cada página assim que é recebida.
+     * Se a busca ou a gravação falhar, o arquivo incompleto é apagado.
+     */
+    public OptionalLong exportarBusca(NoticiaService noticiaService, String palavrasChave, Path destino, Formato formato) {
+        OptionalLong exportadas;
+        try (EscritorNoticias escritor = abrirEscritor(destino, formato)) {
+            exportadas = noticiaService.percorrerPorPalavrasChave(palavrasChave, noticia -> {
+                try {
+                    escritor.escrever(noticia);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro ao exportar busca: " + e.getMessage());
+            exportadas = OptionalLong.empty();
+        }
+
+        if (exportadas.isEmpty()) {
+            apagarSilenciosamente(destino);
+        }
+        return exportadas;
+    }
+
+    /**
+     * Recria o arquivo do usuário a partir de uma exportação, gravando as notícias à medida que são lidas.
+     * O nome e as buscas salvas vêm de {@code base}; notícias sem nenhuma marcação são ignoradas,
+     * assim como em {@link UsuarioService#salvarUsuario(Usuario)}.
+     * O arquivo só é substituído quando a importação termina sem erros.
+     *
+     * @return quantidade de notícias importadas
+     */
+    public OptionalLong importarUsuario(Path origem, Usuario base, Path arquivoUsuario) {
+        Optional<Formato> formato = Formato.porArquivo(origem);
+        if (formato.isEmpty()) {
+            System.err.println("Formato de arquivo não suportado: " + origem.getFileName());
+            return OptionalLong.empty();
+        }
+
+        TypeAdapter<Noticia> noticiaAdapter = ConfiguracaoGson.gson().getAdapter(Noticia.class);
+        Path temporario = arquivoUsuario.resolveSibling(arquivoUsuario.getFileName() + ".tmp");
+        long importadas = 0;
+
+        try (LeitorNoticias leitor = abrirLeitor(origem, formato.get());
+             JsonWriter out = ConfiguracaoGson.gson().newJsonWriter(Files.newBufferedWriter(temporario, StandardCharsets.UTF_8))) {
+            out.beginObject();
+            out.name("nome").value(base.getNome());
+            out.name("noticias").beginArray();
+            Noticia noticia;
+            while ((noticia = leitor.ler()) != null) {
+                if (noticia.isFavorita() || noticia.isLida() || noticia.isParaLerDepois()) {
+                    noticiaAdapter.write(out, noticia);
+                    importadas++;
+                }
+            }
+            out.endArray();
+            out.name("buscasSalvas").beginArray();
+            for (String busca : base.getBuscasSalvas()) {
+                out.value(busca);
+            }
+            out.endArray();
+            out.name("novidades").beginArray().endArray();
+            out.name("novidadesVistas").beginArray();
+            for (Long id : base.getNovidadesVistas()) {
+                out.value(id);
+            }
+            out.endArray();
+            out.endObject();
+        } catch (IOException | JsonParseException | IllegalArgumentException | DateTimeParseException e) {
+            System.err.println("Erro ao importar notícias: " + e.getMessage());
+            apagarSilenciosamente(temporario);
+            return OptionalLong.empty();
+        }
+
+        try {
+            Files.move(temporario, arquivoUsuario, StandardCopyOption.REPLACE_EXISTING);
+            return OptionalLong.of(importadas);
+        } catch (IOException e) {
+            System.err.println("Erro ao substituir arquivo do usuário: " + e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private static void apagarSilenciosamente(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException ignored) {
+            // A falha original já foi informada; um arquivo que não pôde ser apagado é sobrescrito na próxima vez
+        }
+    }
+
+    private EscritorNoticias abrirEscritor(Path destino, Formato formato) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(destino)), StandardCharsets.UTF_8));
+        return formato == Formato.NDJSON ? new EscritorNdjson(writer) : new EscritorCsv(writer);
+    }
+
+    private LeitorNoticias abrirLeitor(Path origem, Formato formato) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(origem)), StandardCharsets.UTF_8));
+        return formato == Formato.NDJSON ? new LeitorNdjson(reader) : new LeitorCsv(reader);
+    }
+
+    private interface EscritorNoticias extends AutoCloseable {
+        void escrever(Noticia noticia) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private interface LeitorNoticias extends AutoCloseable {
+        /**
+         * @return a próxima notícia, ou {@code null} no fim do arquivo
+         */
+        Noticia ler() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    // Uma notícia por linha, no mesmo formato JSON do arquivo do usuário
+    private static class EscritorNdjson implements EscritorNoticias {
+        private final Writer writer;
+        private final TypeAdapter<Noticia> adapter = ConfiguracaoGson.gson().getAdapter(Noticia.class);
+
+        EscritorNdjson(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void escrever(Noticia noticia) throws IOException {
+            // Um JsonWriter sem formatação por linha; ele não é fechado para não fechar o arquivo
+            JsonWriter linha = new JsonWriter(writer);
+            linha.setSerializeNulls(false);
+            adapter.write(linha, noticia);
+            linha.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static class LeitorNdjson implements LeitorNoticias {
+        private final BufferedReader reader;
+        private final TypeAdapter<Noticia> adapter = ConfiguracaoGson.gson().getAdapter(Noticia.class);
+
+        LeitorNdjson(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Noticia ler() throws IOException {
+            String linha;
+            do {
+                linha = reader.readLine();
+                if (linha == null) {
+                    return null;
+                }
+            } while (linha.isBlank());
+            return adapter.fromJson(linha);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    // CSV conforme a RFC 4180: campos com vírgula, aspas ou quebra de linha ficam entre aspas
+    private static class EscritorCsv implements EscritorNoticias {
+        private final Writer writer;
+
+        EscritorCsv(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", COLUNAS_CSV));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void escrever(Noticia noticia) throws IOException {
+            String[] valores = {
+                    String.valueOf(noticia.getId()),
+                    noticia.getTitulo(),
+                    noticia.getIntroducao(),
+                    noticia.getDataPublicacao() == null ? null : noticia.getDataPublicacao().toString(),
+                    noticia.getLink(),
+                    noticia.getTipo() == null ? null : noticia.getTipo().name(),
+                    String.valueOf(noticia.isLida()),
+                    String.valueOf(noticia.isFavorita()),
+                    String.valueOf(noticia.isParaLerDepois())
+            };
+
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapar(valores[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        // Nulo vira campo vazio e texto vazio vira "", para que a leitura distinga os dois
+        private static String escapar(String valor) {
+            if (valor == null) {
+                return "";
+            }
+            if (!valor.isEmpty() && valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+                return valor;
+            }
+            return '"' + valor.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static class LeitorCsv implements LeitorNoticias {
+        private final BufferedReader reader;
+        private boolean cabecalhoLido;
+
+        LeitorCsv(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Noticia ler() throws IOException {
+            if (!cabecalhoLido) {
+                cabecalhoLido = true;
+                if (lerRegistro() == null) {
+                    return null;
+                }
+            }
+
+            List<String> campos = lerRegistro();
+            if (campos == null) {
+                return null;
+            }
+            if (campos.size() != COLUNAS_CSV.length) {
+                throw new JsonParseException("Linha CSV com " + campos.size() + " campos; esperados " + COLUNAS_CSV.length);
+            }
+
+            Noticia noticia = new Noticia(
+                    Long.valueOf(campos.get(0)),
+                    campos.get(1),
+                    campos.get(2),
+                    campos.get(3) == null ? null : LocalDateTime.parse(campos.get(3)),
+                    campos.get(4),
+                    campos.get(5) == null ? null : TipoNoticia.valueOf(campos.get(5)));
+            noticia.setLida(Boolean.parseBoolean(campos.get(6)));
+            noticia.setFavorita(Boolean.parseBoolean(campos.get(7)));
+            noticia.setParaLerDepois(Boolean.parseBoolean(campos.get(8)));
+            return noticia;
+        }
+
+        /**
+         * Lê um registro, que pode ocupar várias linhas quando um campo entre aspas contém quebras de linha.
+         * Um campo vazio sem aspas é lido como {@code null}; {@code ""} é lido como texto vazio.
+         *
+         * @return os campos do registro, ou {@code null} no fim do arquivo
+         */
+        private List<String> lerRegistro() throws IOException {
+            List<String> campos = new ArrayList<>(COLUNAS_CSV.length);
+            StringBuilder campo = new StringBuilder();
+            boolean entreAspas = false;
+            boolean comAspas = false;
+            boolean leuAlgo = false;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                leuAlgo = true;
+                if (entreAspas) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            campo.append('"'); // Aspas duplicadas representam uma aspa
+                        } else {
+                            reader.reset();
+                            entreAspas = false;
+                        }
+                    } else {
+                        campo.append((char) c);
+                    }
+                } else if (c == '"') {
+                    entreAspas = true;
+                    comAspas = true;
+                } else if (c == ',') {
+                    campos.add(valorDoCampo(campo, comAspas));
+                    campo.setLength(0);
+                    comAspas = false;
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    campo.append((char) c);
+                }
+            }
+
+            if (!leuAlgo) {
+                return null;
+            }
+            campos.add(valorDoCampo(campo, comAspas));
+            return campos;
+        }
+
+        private static String valorDoCampo(StringBuilder campo, boolean comAspas) {
+            return campo.isEmpty() && !comAspas ? null : campo.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
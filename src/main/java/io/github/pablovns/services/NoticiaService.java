@@ -1,12 +1,18 @@
 package io.github.pablovns.services;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import io.github.pablovns.domain.Noticia;
-import io.github.pablovns.domain.TipoNoticia;
-import io.github.pablovns.utils.LocalDateTimeAdapter;
-import io.github.pablovns.utils.TipoNoticiaDeserializer;
+import io.github.pablovns.metricas.Cronometro;
+import io.github.pablovns.metricas.Metricas;
+import io.github.pablovns.services.AgendadorRequisicoes.Prioridade;
+import io.github.pablovns.utils.ConfiguracaoGson;
+import io.github.pablovns.utils.OrdenadorNoticias;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -14,26 +20,58 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
  * Serviço responsável por buscar notícias da API do IBGE.
  */
 public class NoticiaService {
-    private static final String URL_BASE = "https://servicodados.ibge.gov.br/api/v3/noticias";
-    private final HttpClient httpClient;
-    private final Gson gson;
+    public static final String URL_BASE_PADRAO = "https://servicodados.ibge.gov.br/api/v3/noticias";
+    private static final int LIMITE_REQUISICOES_PARALELAS = 8;
+    public static final int MAXIMO_DIAS_PERIODO = 366;
+    private static final int DIAS_POR_JANELA = 7;
+    private static final DateTimeFormatter FORMATO_DATA_API = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    private static final int ITENS_POR_PAGINA = 100;
 
+    private final String urlBase;
+    private final AgendadorRequisicoes agendador;
+
+    // Inicializado pela JVM apenas na primeira requisição
+    private static class ClienteHttp {
+        private static final HttpClient INSTANCIA = HttpClient.newHttpClient();
+    }
+
+    /**
+     * Usa a API do IBGE, ou a URL informada na propriedade {@code ibge.url}
+     * (por exemplo, o {@code ServidorSimuladoIbge} em testes de desempenho).
+     */
     public NoticiaService() {
-        this.httpClient = HttpClient.newHttpClient();
-        this.gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-                .registerTypeAdapter(TipoNoticia.class, new TipoNoticiaDeserializer())
-                .create();
+        this(System.getProperty("ibge.url", URL_BASE_PADRAO));
+    }
+
+    public NoticiaService(String urlBase) {
+        this(urlBase, AgendadorRequisicoes.compartilhado());
+    }
+
+    public NoticiaService(String urlBase, AgendadorRequisicoes agendador) {
+        if (urlBase == null || !urlBase.matches("^https?://[^?#\\s]+$")) {
+            throw new IllegalArgumentException("URL base inválida: " + urlBase);
+        }
+        // Remove a barra final para manter o formato urlBase + "/?parametro="
+        this.urlBase = urlBase.endsWith("/") ? urlBase.substring(0, urlBase.length() - 1) : urlBase;
+        this.agendador = agendador;
     }
 
     private String validarEntrada(String entrada) {
@@ -64,8 +102,8 @@ public class NoticiaService {
         }
 
         try {
-            String url = URL_BASE + "/?busca=" + URLEncoder.encode(tituloSanitizado, StandardCharsets.UTF_8);
-            return fazerRequisicao(url);
+            String url = urlBase + "/?busca=" + URLEncoder.encode(tituloSanitizado, StandardCharsets.UTF_8);
+            return fazerRequisicao(url, Prioridade.INTERATIVA);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // Restabelece o status da thread
             System.err.println("Busca por título interrompida.");
@@ -85,8 +123,8 @@ public class NoticiaService {
         }
 
         try {
-            String url = URL_BASE + "/?palavraChave=" + URLEncoder.encode(palavrasChaveSanitizadas, StandardCharsets.UTF_8);
-            return fazerRequisicao(url);
+            String url = urlBase + "/?palavraChave=" + URLEncoder.encode(palavrasChaveSanitizadas, StandardCharsets.UTF_8);
+            return fazerRequisicao(url, Prioridade.INTERATIVA);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             System.err.println("Busca por palavras-chave interrompida.");
@@ -99,6 +137,33 @@ public class NoticiaService {
         return Optional.empty();
     }
 
+    /**
+     * Percorre todas as páginas da busca por palavras-chave, entregando as notícias ao consumidor
+     * página a página, sem acumular o resultado completo em memória.
+     * As páginas são requisitadas em segundo plano, cedendo a vez às buscas interativas.
+     *
+     * @return quantidade de notícias entregues, ou vazio se a busca for inválida ou falhar
+     */
+    public OptionalLong percorrerPorPalavrasChave(String palavrasChave, Consumer<Noticia> destino) {
+        String palavrasChaveSanitizadas = validarEntrada(palavrasChave);
+        if (palavrasChaveSanitizadas == null) {
+            return OptionalLong.empty();
+        }
+
+        String urlConsulta = urlBase + "/?palavraChave=" + URLEncoder.encode(palavrasChaveSanitizadas, StandardCharsets.UTF_8);
+
+        try {
+            return OptionalLong.of(percorrerPaginas(urlConsulta, Prioridade.SEGUNDO_PLANO, destino));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Busca paginada por palavras-chave interrompida.");
+        } catch (IOException e) {
+            System.err.println("Erro de I/O ao percorrer notícias por palavras-chave: " + e.getMessage());
+        }
+
+        return OptionalLong.empty();
+    }
+
     public Optional<List<Noticia>> buscarPorData(LocalDate data) {
         if (data == null) {
             return Optional.empty();
@@ -110,9 +175,7 @@ public class NoticiaService {
         }
 
         try {
-            String dataString = data.toString();
-            String url = URL_BASE + "/?data=" + URLEncoder.encode(dataString, StandardCharsets.UTF_8);
-            return fazerRequisicao(url);
+            return fazerRequisicao(montarUrlPorData(data), Prioridade.INTERATIVA);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             System.err.println("Busca por data interrompida.");
@@ -125,15 +188,120 @@ public class NoticiaService {
         return Optional.empty();
     }
 
+    /**
+     * Busca as notícias publicadas entre duas datas (inclusive).
+     * O período é dividido em janelas de {@value #DIAS_POR_JANELA} dias, consultadas em paralelo por até
+     * {@value #LIMITE_REQUISICOES_PARALELAS} threads; cada janela percorre todas as suas páginas.
+     * Todas as requisições passam pelo agendador, que limita a taxa de envio (por padrão 10 por segundo),
+     * então um período de um ano, com 53 janelas, leva alguns segundos mesmo com a API respondendo rápido.
+     * Os resultados são mesclados por data de publicação sem notícias repetidas.
+     * Janelas cuja consulta falhar são ignoradas, retornando apenas os resultados parciais.
+     */
+    public Optional<List<Noticia>> buscarPorPeriodo(LocalDate inicio, LocalDate fim, Prioridade prioridade) {
+        return buscarPorPeriodo(inicio, fim, prioridade, (concluidas, total) -> {
+        });
+    }
+
+    /**
+     * Igual a {@link #buscarPorPeriodo(LocalDate, LocalDate, Prioridade)}, informando a {@code progresso} a quantidade
+     * de janelas já consultadas e o total, na thread que chamou o método.
+     */
+    public Optional<List<Noticia>> buscarPorPeriodo(LocalDate inicio, LocalDate fim, Prioridade prioridade,
+                                                    BiConsumer<Integer, Integer> progresso) {
+        if (inicio == null || fim == null || fim.isBefore(inicio)) {
+            return Optional.empty();
+        }
+
+        if (fim.isAfter(LocalDate.now())) {
+            return Optional.empty(); // Não permite datas futuras
+        }
+
+        if (inicio.plusDays(MAXIMO_DIAS_PERIODO).isBefore(fim.plusDays(1))) {
+            return Optional.empty();
+        }
+
+        List<LocalDate> iniciosJanelas = inicio.datesUntil(fim.plusDays(1), Period.ofDays(DIAS_POR_JANELA)).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(iniciosJanelas.size(), LIMITE_REQUISICOES_PARALELAS));
+        try {
+            List<Future<List<Noticia>>> consultas = new ArrayList<>(iniciosJanelas.size());
+            for (LocalDate inicioJanela : iniciosJanelas) {
+                LocalDate fimJanela = inicioJanela.plusDays(DIAS_POR_JANELA - 1L);
+                String urlJanela = montarUrlPorPeriodo(inicioJanela, fimJanela.isAfter(fim) ? fim : fimJanela);
+                consultas.add(executor.submit(() -> {
+                    List<Noticia> noticias = new ArrayList<>();
+                    percorrerPaginas(urlJanela, prioridade, noticias::add);
+                    return noticias;
+                }));
+            }
+
+            List<List<Noticia>> noticiasPorJanela = new ArrayList<>(consultas.size());
+            for (int i = 0; i < consultas.size(); i++) {
+                try {
+                    noticiasPorJanela.add(consultas.get(i).get());
+                } catch (ExecutionException e) {
+                    System.err.println("Erro ao buscar notícias a partir de " + iniciosJanelas.get(i) + ": " + e.getCause().getMessage());
+                }
+                progresso.accept(i + 1, consultas.size());
+            }
+
+            return Optional.of(OrdenadorNoticias.mesclarPorData(noticiasPorJanela));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Busca por período interrompida.");
+        } finally {
+            executor.shutdownNow();
+        }
 
-    private Optional<List<Noticia>> fazerRequisicao(String url) throws IOException, InterruptedException {
+        return Optional.empty();
+    }
+
+    private String montarUrlPorData(LocalDate data) {
+        return urlBase + "/?data=" + URLEncoder.encode(data.toString(), StandardCharsets.UTF_8);
+    }
+
+    private String montarUrlPorPeriodo(LocalDate de, LocalDate ate) {
+        return urlBase + "/?de=" + de.format(FORMATO_DATA_API) + "&ate=" + ate.format(FORMATO_DATA_API);
+    }
+
+    /**
+     * Requisita todas as páginas da consulta, seguindo o total de páginas informado pela API,
+     * e entrega as notícias ao consumidor assim que cada página é lida.
+     *
+     * @return quantidade de notícias entregues
+     */
+    private long percorrerPaginas(String urlConsulta, Prioridade prioridade, Consumer<Noticia> destino)
+            throws IOException, InterruptedException {
+        String urlPaginada = urlConsulta + "&qtd=" + ITENS_POR_PAGINA;
+        long entregues = 0;
+
+        int totalPaginas = 1;
+        for (int numeroPagina = 1; numeroPagina <= totalPaginas; numeroPagina++) {
+            Optional<Pagina> pagina = requisitarPagina(urlPaginada + "&page=" + numeroPagina, prioridade);
+            if (pagina.isEmpty() || pagina.get().noticias().isEmpty()) {
+                break;
+            }
+
+            totalPaginas = pagina.get().totalPaginas();
+            for (Noticia noticia : pagina.get().noticias()) {
+                destino.accept(noticia);
+                entregues++;
+            }
+        }
+        return entregues;
+    }
+
+    private Optional<List<Noticia>> fazerRequisicao(String url, Prioridade prioridade) throws IOException, InterruptedException {
+        return requisitarPagina(url, prioridade).map(Pagina::noticias);
+    }
+
+    private Optional<Pagina> requisitarPagina(String url, Prioridade prioridade) throws IOException, InterruptedException {
         // Validação adicional da URL
         if (url == null || url.trim().isEmpty()) {
             throw new IOException("URL inválida");
         }
         
         // Verifica se a URL começa com a base esperada
-        if (!url.startsWith(URL_BASE)) {
+        if (!url.startsWith(urlBase)) {
             throw new IOException("URL não autorizada");
         }
         
@@ -148,41 +316,93 @@ public class NoticiaService {
                 .timeout(java.time.Duration.ofSeconds(30))
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<byte[]> response;
+        try {
+            // A espera na fila do agendador não entra na duração da requisição HTTP
+            response = agendador.executar(prioridade, () -> {
+                Cronometro cronometro = Metricas.medir("http", Metricas.HTTP_DURACAO);
+                try {
+                    return ClienteHttp.INSTANCIA.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                } finally {
+                    cronometro.parar();
+                }
+            });
+        } catch (IOException e) {
+            Metricas.ERROS_REQUISICAO.incrementar();
+            throw e;
+        }
+
+        Metricas.BYTES_RECEBIDOS.adicionar(response.body().length);
 
         if (response.statusCode() != 200) {
+            Metricas.ERROS_REQUISICAO.incrementar();
             throw new IOException("Erro na requisição: " + response.statusCode());
         }
 
         // Validação do corpo da resposta
-        String responseBody = response.body();
-        if (responseBody == null || responseBody.trim().isEmpty()) {
+        String responseBody = new String(response.body(), StandardCharsets.UTF_8);
+        if (responseBody.trim().isEmpty()) {
             return Optional.empty();
         }
 
-        JsonObject responseJson = gson.fromJson(responseBody, JsonObject.class);
-        if (responseJson == null) {
-            return Optional.empty();
+        Cronometro cronometro = Metricas.medir("json", Metricas.JSON_DURACAO);
+        try {
+            return lerPagina(responseBody);
+        } finally {
+            cronometro.parar();
         }
-        
-        JsonArray items = responseJson.getAsJsonArray("items");
-        if (items == null) {
-            return Optional.empty();
+    }
+
+    private record Pagina(List<Noticia> noticias, int totalPaginas) {
+    }
+
+    /**
+     * Lê a lista "items" e o total de páginas da resposta diretamente dos tokens JSON, ignorando os demais campos.
+     * Uma notícia inválida é descartada sem interromper a leitura das seguintes.
+     */
+    private Optional<Pagina> lerPagina(String responseBody) throws IOException {
+        TypeAdapter<Noticia> noticiaAdapter = ConfiguracaoGson.gson().getAdapter(Noticia.class);
+        List<Noticia> noticias = null;
+        int totalPaginas = 1;
+
+        try (JsonReader reader = new JsonReader(new StringReader(responseBody))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return Optional.empty();
+            }
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String campo = reader.nextName();
+                if (campo.equals("totalPages") && reader.peek() == JsonToken.NUMBER) {
+                    totalPaginas = reader.nextInt();
+                } else if (campo.equals("items") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    noticias = lerNoticias(reader, noticiaAdapter);
+                } else {
+                    reader.skipValue();
+                }
+            }
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("Resposta JSON inválida: " + e.getMessage(), e);
         }
-        
-        List<Noticia> noticias = new ArrayList<>();
 
-        for (JsonElement item : items) {
+        return noticias == null ? Optional.empty() : Optional.of(new Pagina(noticias, totalPaginas));
+    }
+
+    private List<Noticia> lerNoticias(JsonReader reader, TypeAdapter<Noticia> noticiaAdapter) throws IOException {
+        List<Noticia> noticias = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
             try {
-                Noticia noticia = gson.fromJson(item, Noticia.class);
+                Noticia noticia = noticiaAdapter.read(reader);
                 if (noticia != null && noticia.getId() != null) {
                     noticias.add(noticia);
                 }
-            } catch (Exception e) {
+            } catch (JsonParseException e) {
+                Metricas.FALHAS_PROCESSAMENTO.incrementar();
                 System.err.println("Erro ao processar notícia: " + e.getMessage());
             }
         }
-
-        return Optional.of(noticias);
+        reader.endArray();
+        return noticias;
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
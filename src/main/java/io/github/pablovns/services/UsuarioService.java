@@ -1,54 +1,54 @@
 package io.github.pablovns.services;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import io.github.pablovns.domain.Usuario;
+import io.github.pablovns.metricas.Cronometro;
+import io.github.pablovns.metricas.Metricas;
+import io.github.pablovns.utils.ConfiguracaoGson;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 /**
  * Serviço responsável por gerenciar a persistência dos dados do usuário.
+ * Os dados ficam no diretório {@code dados}, ou no informado pela propriedade {@code usuario.diretorio}.
  */
 public class UsuarioService {
-    private static final String DIRETORIO_DADOS = "dados";
-    private static final String ARQUIVO_USUARIO = DIRETORIO_DADOS + "/usuario.json";
-    private final Gson gson;
+    private final String diretorioDados;
+    private final String arquivoUsuario;
 
     public UsuarioService() {
-        this.gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-                .setPrettyPrinting()
-                .create();
+        this(System.getProperty("usuario.diretorio", "dados"));
+    }
+
+    public UsuarioService(String diretorioDados) {
+        this.diretorioDados = diretorioDados;
+        this.arquivoUsuario = diretorioDados + "/usuario.json";
         criarDiretorioSeNaoExistir();
     }
 
-    private static class LocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
-        private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    public Path getDiretorioDados() {
+        return Paths.get(diretorioDados);
+    }
 
-        @Override
-        public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context) {
-            return new JsonPrimitive(formatter.format(src));
-        }
+    public Path getArquivoUsuario() {
+        return Paths.get(arquivoUsuario);
+    }
 
-        @Override
-        public LocalDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            return LocalDateTime.parse(json.getAsString(), formatter);
-        }
+    public boolean existeUsuarioSalvo() {
+        return Files.exists(Paths.get(arquivoUsuario));
     }
 
     private void criarDiretorioSeNaoExistir() {
         try {
-            Path path = Paths.get(DIRETORIO_DADOS);
+            Path path = Paths.get(diretorioDados);
             if (!Files.exists(path)) {
                 Files.createDirectory(path);
             }
@@ -67,24 +67,59 @@ public class UsuarioService {
         usuario.getNoticias().removeIf(noticia -> 
             !noticia.isFavorita() && !noticia.isLida() && !noticia.isParaLerDepois());
 
-        try (FileWriter writer = new FileWriter(ARQUIVO_USUARIO)) {
-            gson.toJson(usuario, writer);
+        Cronometro cronometro = Metricas.medir("salvarUsuario", Metricas.SALVAR_USUARIO_DURACAO);
+        try {
+            try (FileWriter writer = new FileWriter(arquivoUsuario)) {
+                ConfiguracaoGson.gson().toJson(usuario, writer);
+            }
+            Metricas.BYTES_GRAVADOS.adicionar(Files.size(Paths.get(arquivoUsuario)));
         } catch (IOException e) {
             System.err.println("Erro ao salvar usuário: " + e.getMessage());
+        } finally {
+            cronometro.parar();
         }
     }
 
     public Optional<Usuario> carregarUsuario() {
-        File arquivo = new File(ARQUIVO_USUARIO);
+        File arquivo = new File(arquivoUsuario);
         if (!arquivo.exists()) {
             return Optional.empty();
         }
 
+        Cronometro cronometro = Metricas.medir("carregarUsuario", Metricas.CARREGAR_USUARIO_DURACAO);
         try (FileReader reader = new FileReader(arquivo)) {
-            return Optional.ofNullable(gson.fromJson(reader, Usuario.class));
-        } catch (IOException e) {
+            Metricas.BYTES_LIDOS.adicionar(arquivo.length());
+            return Optional.ofNullable(ConfiguracaoGson.gson().fromJson(reader, Usuario.class));
+        } catch (IOException | JsonParseException e) {
             System.err.println("Erro ao carregar usuário: " + e.getMessage());
             return Optional.empty();
+        } finally {
+            cronometro.parar();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Lê apenas o nome do usuário salvo, sem carregar a lista de notícias.
+     * Permite exibir a saudação enquanto o restante do arquivo é carregado.
+     */
+    public Optional<String> lerNomeUsuario() {
+        File arquivo = new File(arquivoUsuario);
+        if (!arquivo.exists()) {
+            return Optional.empty();
+        }
+
+        try (JsonReader reader = new JsonReader(new FileReader(arquivo))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("nome")) {
+                    return Optional.ofNullable(reader.nextString());
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Erro ao ler nome do usuário: " + e.getMessage());
+        }
+
+        return Optional.empty();
+    }
+}
\ No newline at end of file
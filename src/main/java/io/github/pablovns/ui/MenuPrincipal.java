@@ -2,33 +2,60 @@ package io.github.pablovns.ui;
 
 import io.github.pablovns.domain.Noticia;
 import io.github.pablovns.domain.Usuario;
+import io.github.pablovns.services.AgendadorRequisicoes;
+import io.github.pablovns.services.BuscaSalvaService;
+import io.github.pablovns.services.ExportacaoService;
 import io.github.pablovns.services.NoticiaService;
 import io.github.pablovns.services.UsuarioService;
+import io.github.pablovns.utils.DetectorDuplicatas;
 import io.github.pablovns.utils.OrdenadorNoticias;
 
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Classe responsável por gerenciar a interface com o usuário.
  */
 public class MenuPrincipal {
     public static final String ESCOLHA_UMA_OPCAO = "Escolha uma opção: ";
+    private static final int DIAS_VERIFICACAO_NOVIDADES = 7;
+    private static final DateTimeFormatter FORMATO_NOME_EXPORTACAO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     private final Scanner scanner;
     private final NoticiaService noticiaService;
     private final UsuarioService usuarioService;
+    private final BuscaSalvaService buscaSalvaService;
+    private final DetectorDuplicatas detectorDuplicatas;
+    private final ExportacaoService exportacaoService;
+    private CompletableFuture<Optional<Usuario>> carregamentoUsuario;
+    private String nomeUsuario;
     private Usuario usuario;
+    // Ativado quando o arquivo salvo existe mas não pôde ser lido, para não sobrescrevê-lo
+    private boolean somenteLeitura;
 
     public MenuPrincipal() {
+        this(new UsuarioService());
+    }
+
+    MenuPrincipal(UsuarioService usuarioService) {
         this.scanner = new Scanner(System.in);
         this.noticiaService = new NoticiaService();
-        this.usuarioService = new UsuarioService();
+        this.usuarioService = usuarioService;
+        this.buscaSalvaService = new BuscaSalvaService();
+        this.detectorDuplicatas = new DetectorDuplicatas();
+        this.exportacaoService = new ExportacaoService();
     }
 
     public void iniciar() {
@@ -36,16 +63,19 @@ public class MenuPrincipal {
         
         while (true) {
             exibirMenu();
-            int opcao = lerOpcaoValida(0, 4);
+            int opcao = lerOpcaoValida(0, 6);
             
             switch (opcao) {
                 case 1 -> buscarNoticias();
                 case 2 -> exibirNoticiasFavoritas();
                 case 3 -> exibirNoticiasLidas();
                 case 4 -> exibirNoticiasParaLerDepois();
+                case 5 -> gerenciarBuscasSalvas();
+                case 6 -> exportarOuImportar();
                 case 0 -> {
-                    System.out.println("Salvando dados e encerrando...");
-                    usuarioService.salvarUsuario(usuario);
+                    usuario(); // Conclui o carregamento antes de decidir se os dados podem ser salvos
+                    System.out.println(somenteLeitura ? "Encerrando sem salvar..." : "Salvando dados e encerrando...");
+                    salvarUsuario();
                     return;
                 }
                 default -> {
@@ -56,8 +86,11 @@ public class MenuPrincipal {
     }
 
     private void carregarOuCriarUsuario() {
-        Optional<Usuario> optionalUsuario = usuarioService.carregarUsuario();
-        if (optionalUsuario.isEmpty()) {
+        Optional<String> nomeSalvo = usuarioService.lerNomeUsuario();
+        if (nomeSalvo.isEmpty()) {
+            if (usuarioService.existeUsuarioSalvo()) {
+                ativarSomenteLeitura();
+            }
             System.out.println("Bem-vindo ao Sistema de Notícias do IBGE!");
             String nome;
             do {
@@ -66,11 +99,36 @@ public class MenuPrincipal {
             } while (nome.length() < 2);
             
             usuario = new Usuario(nome);
-            usuarioService.salvarUsuario(usuario);
+            salvarUsuario();
         } else {
-            usuario = optionalUsuario.get();
-            System.out.println("Bem-vindo de volta, " + usuario.getNome() + "!");
+            // As notícias do usuário são carregadas em segundo plano enquanto o menu é exibido
+            nomeUsuario = nomeSalvo.get();
+            carregamentoUsuario = CompletableFuture.supplyAsync(usuarioService::carregarUsuario);
+            System.out.println("Bem-vindo de volta, " + nomeUsuario + "!");
+        }
+    }
+
+    private Usuario usuario() {
+        if (usuario == null) {
+            usuario = carregamentoUsuario.join().orElseGet(() -> {
+                ativarSomenteLeitura();
+                return new Usuario(nomeUsuario);
+            });
         }
+        return usuario;
+    }
+
+    private void salvarUsuario() {
+        Usuario atual = usuario();
+        if (!somenteLeitura) {
+            usuarioService.salvarUsuario(atual);
+        }
+    }
+
+    private void ativarSomenteLeitura() {
+        somenteLeitura = true;
+        System.out.println("Não foi possível ler os dados salvos em " + usuarioService.getArquivoUsuario()
+                + ". O arquivo será mantido como está e as alterações desta sessão não serão salvas.");
     }
 
     private void exibirMenu() {
@@ -79,6 +137,8 @@ public class MenuPrincipal {
         System.out.println("2. Notícias Favoritas");
         System.out.println("3. Notícias Lidas");
         System.out.println("4. Para Ler Depois");
+        System.out.println("5. Buscas Salvas e Novidades");
+        System.out.println("6. Exportar/Importar Dados");
         System.out.println("0. Sair");
     }
 
@@ -100,10 +160,14 @@ public class MenuPrincipal {
     }
 
     private LocalDate lerDataValida() {
+        return lerDataValida("Digite a data (DDMMYYYY): ");
+    }
+
+    private LocalDate lerDataValida(String mensagem) {
         final String msgErro = "Data inválida! Use o formato DDMMYYYY (exemplo: 07062025)";
 
         while (true) {
-            System.out.println("Digite a data (DDMMYYYY): ");
+            System.out.println(mensagem);
             String entrada = scanner.nextLine().trim();
 
             if (entrada.matches("\\d{8}")) {
@@ -154,9 +218,10 @@ public class MenuPrincipal {
         System.out.println("1. Buscar por título");
         System.out.println("2. Buscar por palavras-chave");
         System.out.println("3. Buscar por data");
+        System.out.println("4. Buscar por período");
         System.out.println("0. Voltar");
 
-        int opcao = lerOpcaoValida(0, 3);
+        int opcao = lerOpcaoValida(0, 4);
         if (opcao == 0) {
             return;
         }
@@ -165,22 +230,214 @@ public class MenuPrincipal {
             case 1 -> noticiaService.buscarPorTitulo(lerTextoValido("Digite o título: "));
             case 2 -> noticiaService.buscarPorPalavrasChave(lerTextoValido("Digite as palavras-chave: "));
             case 3 -> noticiaService.buscarPorData(lerDataValida());
+            case 4 -> buscarPorPeriodo();
             default -> Optional.empty();
         };
 
-        List<Noticia> noticiasBusca = optionalNoticias.orElse(List.of());
+        List<Noticia> noticiasBusca = removerSemelhantes(optionalNoticias.orElse(List.of()));
 
         if (noticiasBusca.isEmpty()) {
             System.out.println("Nenhuma notícia encontrada.");
             return;
         }
 
+        // Os resultados já estão sendo exibidos; não devem voltar depois como novidade
+        if (buscaSalvaService.marcarVistas(usuario(), noticiasBusca) > 0) {
+            salvarUsuario();
+        }
         exibirNoticias(noticiasBusca);
     }
 
+    // Mostra apenas uma notícia de cada grupo de quase idênticas (ex.: notícia e release do mesmo assunto)
+    private List<Noticia> removerSemelhantes(List<Noticia> noticias) {
+        List<Noticia> unicas = detectorDuplicatas.removerSemelhantes(noticias);
+        int ocultadas = noticias.size() - unicas.size();
+        if (ocultadas > 0) {
+            System.out.printf("%d notícia(s) semelhante(s) ocultada(s).%n", ocultadas);
+        }
+        return unicas;
+    }
+
+    private void avaliarBuscasSalvas(List<Noticia> noticias) {
+        int novidades = buscaSalvaService.avaliar(usuario(), noticias);
+        if (novidades > 0) {
+            System.out.printf("%d notícia(s) nova(s) para suas buscas salvas.%n", novidades);
+            salvarUsuario();
+        }
+    }
+
+    private void gerenciarBuscasSalvas() {
+        while (true) {
+            System.out.println("\n=== Buscas Salvas e Novidades ===");
+            List<String> buscasSalvas = usuario().getBuscasSalvas();
+            System.out.println(buscasSalvas.isEmpty()
+                    ? "Nenhuma busca salva."
+                    : "Buscas salvas: " + String.join(", ", buscasSalvas));
+            System.out.printf("Novidades: %d%n", usuario().getNovidades().size());
+
+            System.out.println("1. Ver novidades");
+            System.out.printf("2. Verificar novidades dos últimos %d dias%n", DIAS_VERIFICACAO_NOVIDADES);
+            System.out.println("3. Adicionar busca salva");
+            System.out.println("4. Remover busca salva");
+            System.out.println("5. Limpar novidades");
+            System.out.println("0. Voltar");
+
+            int opcao = lerOpcaoValida(0, 5);
+            switch (opcao) {
+                case 1 -> {
+                    if (usuario().getNovidades().isEmpty()) {
+                        System.out.println("Nenhuma novidade.");
+                    } else {
+                        exibirNoticias(usuario().getNovidades());
+                    }
+                }
+                case 2 -> verificarNovidades();
+                case 3 -> {
+                    String termo = lerTextoValido("Digite o termo a ser acompanhado: ");
+                    System.out.println(usuario().adicionarBuscaSalva(termo)
+                            ? "Busca salva."
+                            : "Essa busca já está salva.");
+                    salvarUsuario();
+                }
+                case 4 -> {
+                    String termo = lerTextoValido("Digite o termo a ser removido: ");
+                    System.out.println(usuario().removerBuscaSalva(termo)
+                            ? "Busca removida."
+                            : "Busca não encontrada.");
+                    salvarUsuario();
+                }
+                case 5 -> {
+                    usuario().limparNovidades();
+                    salvarUsuario();
+                    System.out.println("Novidades removidas.");
+                }
+                default -> {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void verificarNovidades() {
+        if (usuario().getBuscasSalvas().isEmpty()) {
+            System.out.println("Adicione uma busca salva antes de verificar novidades.");
+            return;
+        }
+
+        LocalDate hoje = LocalDate.now();
+        List<Noticia> recentes = detectorDuplicatas.removerSemelhantes(noticiaService
+                .buscarPorPeriodo(hoje.minusDays(DIAS_VERIFICACAO_NOVIDADES - 1L), hoje, AgendadorRequisicoes.Prioridade.SEGUNDO_PLANO)
+                .orElse(List.of()));
+
+        int antes = usuario().getNovidades().size();
+        avaliarBuscasSalvas(recentes);
+        if (usuario().getNovidades().size() == antes) {
+            System.out.println("Nenhuma novidade encontrada.");
+        }
+    }
+
+    private Optional<List<Noticia>> buscarPorPeriodo() {
+        LocalDate inicio = lerDataValida("Digite a data inicial (DDMMYYYY): ");
+        LocalDate fim = lerDataValida("Digite a data final (DDMMYYYY): ");
+
+        while (true) {
+            if (fim.isBefore(inicio)) {
+                System.out.println("A data final não pode ser anterior à data inicial!");
+            } else if (inicio.plusDays(NoticiaService.MAXIMO_DIAS_PERIODO).isBefore(fim.plusDays(1))) {
+                System.out.printf("O período pode ter no máximo %d dias!%n", NoticiaService.MAXIMO_DIAS_PERIODO);
+            } else {
+                break;
+            }
+            fim = lerDataValida("Digite a data final (DDMMYYYY): ");
+        }
+
+        return noticiaService.buscarPorPeriodo(inicio, fim, AgendadorRequisicoes.Prioridade.INTERATIVA, (concluidas, total) -> {
+            // Períodos longos levam alguns segundos por causa do limite de requisições
+            if (total > 1) {
+                System.out.printf("\rSemanas consultadas: %d/%d", concluidas, total);
+                if (concluidas.equals(total)) {
+                    System.out.println();
+                }
+            }
+        });
+    }
+
+    private void exportarOuImportar() {
+        System.out.println("\n=== Exportar/Importar Dados ===");
+        System.out.println("1. Exportar notícias salvas");
+        System.out.println("2. Exportar todas as páginas de uma busca por palavras-chave");
+        System.out.println("3. Importar notícias salvas (substitui as atuais)");
+        System.out.println("0. Voltar");
+
+        int opcao = lerOpcaoValida(0, 3);
+        switch (opcao) {
+            case 1 -> {
+                ExportacaoService.Formato formato = lerFormatoExportacao();
+                Path destino = gerarArquivoExportacao("noticias", formato);
+                informarExportacao(exportacaoService.exportarNoticiasUsuario(usuario(), destino, formato), destino);
+            }
+            case 2 -> {
+                String palavrasChave = lerTextoValido("Digite as palavras-chave: ");
+                ExportacaoService.Formato formato = lerFormatoExportacao();
+                Path destino = gerarArquivoExportacao("busca", formato);
+                informarExportacao(exportacaoService.exportarBusca(noticiaService, palavrasChave, destino, formato), destino);
+            }
+            case 3 -> importarNoticias();
+            default -> {
+                // Voltar
+            }
+        }
+    }
+
+    private ExportacaoService.Formato lerFormatoExportacao() {
+        System.out.println("Formato: 1. NDJSON | 2. CSV");
+        return lerOpcaoValida(1, 2) == 1 ? ExportacaoService.Formato.NDJSON : ExportacaoService.Formato.CSV;
+    }
+
+    private Path gerarArquivoExportacao(String prefixo, ExportacaoService.Formato formato) {
+        String nome = "exportacao-" + prefixo + "-" + LocalDateTime.now().format(FORMATO_NOME_EXPORTACAO) + formato.getExtensao();
+        return usuarioService.getDiretorioDados().resolve(nome);
+    }
+
+    private void informarExportacao(OptionalLong exportadas, Path destino) {
+        if (exportadas.isPresent()) {
+            System.out.printf("%d notícia(s) exportada(s) para %s%n", exportadas.getAsLong(), destino);
+        } else {
+            System.out.println("Não foi possível concluir a exportação.");
+        }
+    }
+
+    private void importarNoticias() {
+        System.out.println("Digite o caminho do arquivo (.ndjson.gz ou .csv.gz): ");
+        Path origem;
+        try {
+            origem = Paths.get(scanner.nextLine().trim());
+        } catch (InvalidPathException e) {
+            origem = null;
+        }
+        if (origem == null || !Files.isRegularFile(origem) || ExportacaoService.Formato.porArquivo(origem).isEmpty()) {
+            System.out.println("Arquivo não encontrado ou em formato não suportado.");
+            return;
+        }
+
+        if (somenteLeitura) {
+            System.out.println("Importação indisponível: os dados salvos não puderam ser lidos e não serão sobrescritos.");
+            return;
+        }
+
+        OptionalLong importadas = exportacaoService.importarUsuario(origem, usuario(), usuarioService.getArquivoUsuario());
+        if (importadas.isEmpty()) {
+            System.out.println("Não foi possível concluir a importação. Os dados atuais foram mantidos.");
+            return;
+        }
+
+        usuario = usuarioService.carregarUsuario().orElse(usuario);
+        System.out.printf("%d notícia(s) importada(s).%n", importadas.getAsLong());
+    }
+
     private void exibirNoticiasFavoritas() {
         System.out.println("\n=== Notícias Favoritas ===");
-        List<Noticia> favoritas = usuario.listarNoticiasFavoritas();
+        List<Noticia> favoritas = usuario().listarNoticiasFavoritas();
         if (favoritas == null || favoritas.isEmpty()) {
             System.out.println("Nenhuma notícia favorita.");
             return;
@@ -190,7 +447,7 @@ public class MenuPrincipal {
 
     private void exibirNoticiasLidas() {
         System.out.println("\n=== Notícias Lidas ===");
-        List<Noticia> lidas = usuario.listarNoticiasLidas();
+        List<Noticia> lidas = usuario().listarNoticiasLidas();
         if (lidas == null || lidas.isEmpty()) {
             System.out.println("Nenhuma notícia lida.");
             return;
@@ -200,7 +457,7 @@ public class MenuPrincipal {
 
     private void exibirNoticiasParaLerDepois() {
         System.out.println("\n=== Para Ler Depois ===");
-        List<Noticia> paraLer = usuario.listarNoticiasParaLerDepois();
+        List<Noticia> paraLer = usuario().listarNoticiasParaLerDepois();
         if (paraLer == null || paraLer.isEmpty()) {
             System.out.println("Nenhuma notícia marcada para ler depois.");
             return;
@@ -237,19 +494,26 @@ public class MenuPrincipal {
             System.out.println("1. Marcar/Desmarcar como favorita");
             System.out.println("2. Marcar/Desmarcar como lida");
             System.out.println("3. Marcar/Desmarcar para ler depois");
+            System.out.println("4. Marcar todas como lidas");
+            System.out.println("5. Desmarcar \"para ler depois\" de todas as salvas publicadas antes de uma data");
             System.out.println("0. Voltar");
 
-            int opcao = lerOpcaoValida(0, 3);
+            int opcao = lerOpcaoValida(0, 5);
             if (opcao == 0) {
                 break;
             }
 
+            if (opcao == 4 || opcao == 5) {
+                alterarEmLote(noticias, opcao);
+                continue;
+            }
+
             System.out.printf("Digite o número da notícia (1 a %d): ", noticias.size());
             int indice = lerOpcaoValida(1, noticias.size()) - 1;
             Noticia noticiaTemporaria = noticias.get(indice);
 
             // Verifica se a notícia já existe na lista do usuário
-            Optional<Noticia> noticiaExistente = usuario.obterNoticia(noticiaTemporaria.getId());
+            Optional<Noticia> noticiaExistente = usuario().obterNoticia(noticiaTemporaria.getId());
             Noticia noticiaParaAtualizar = noticiaExistente.orElse(noticiaTemporaria);
 
             switch (opcao) {
@@ -275,11 +539,32 @@ public class MenuPrincipal {
             }
 
             // Atualiza a notícia na lista do usuário
-            usuario.salvarOuAtualizarNoticia(noticiaParaAtualizar);
-            usuarioService.salvarUsuario(usuario);
+            usuario().salvarOuAtualizarNoticia(noticiaParaAtualizar);
+            salvarUsuario();
 
             // Atualiza a notícia na lista temporária para refletir as mudanças
             noticias.set(indice, noticiaParaAtualizar);
         }
     }
-} 
\ No newline at end of file
+
+    // Altera as notícias de uma vez e grava o usuário uma única vez: a opção 4 vale para a lista
+    // exibida e a opção 5 para todas as notícias salvas, exibidas ou não
+    private void alterarEmLote(List<Noticia> noticias, int opcao) {
+        int alteradas;
+        if (opcao == 4) {
+            alteradas = usuario().alterarEmLote(noticias, n -> !n.isLida(), n -> n.setLida(true));
+            System.out.printf("%d notícia(s) marcada(s) como \"lida\".%n", alteradas);
+        } else {
+            LocalDate limite = lerDataValida("Digite a data limite (DDMMYYYY): ");
+            alteradas = usuario().alterarEmLote(
+                    n -> n.isParaLerDepois() && n.getDataPublicacao() != null
+                            && n.getDataPublicacao().toLocalDate().isBefore(limite),
+                    n -> n.setParaLerDepois(false));
+            System.out.printf("%d notícia(s) desmarcada(s) como \"para ler depois\".%n", alteradas);
+        }
+
+        if (alteradas > 0) {
+            salvarUsuario();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package io.github.pablovns.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Autômato de Aho-Corasick que procura vários termos de uma só vez em um texto.
+ * Termos e textos são comparados sem acentos e sem diferenciar maiúsculas de minúsculas,
+ * e o texto é percorrido uma única vez, qualquer que seja a quantidade de termos.
+ */
+public class AutomatoBuscas {
+    private final List<String> termos = new ArrayList<>();
+    private final List<Map<Character, Integer>> transicoes = new ArrayList<>();
+    private final List<int[]> saidas = new ArrayList<>();
+    private int[] falhas;
+
+    public AutomatoBuscas(List<String> termos) {
+        criarEstado(); // Estado inicial
+        for (String termo : termos) {
+            String normalizado = NormalizadorTexto.normalizar(termo);
+            if (!normalizado.isBlank()) {
+                inserir(normalizado, this.termos.size());
+                this.termos.add(termo);
+            }
+        }
+        calcularFalhas();
+    }
+
+    /**
+     * Retorna os termos (na forma original) encontrados em algum dos textos.
+     */
+    public Set<String> encontrar(String... textos) {
+        Set<String> encontrados = new LinkedHashSet<>();
+        for (String texto : textos) {
+            if (texto == null) {
+                continue;
+            }
+
+            int estado = 0;
+            String normalizado = NormalizadorTexto.normalizar(texto);
+            for (int i = 0; i < normalizado.length(); i++) {
+                estado = transitar(estado, normalizado.charAt(i));
+                for (int indiceTermo : saidas.get(estado)) {
+                    encontrados.add(termos.get(indiceTermo));
+                }
+            }
+        }
+        return encontrados;
+    }
+
+    public boolean isVazio() {
+        return termos.isEmpty();
+    }
+
+    private int criarEstado() {
+        transicoes.add(new HashMap<>());
+        saidas.add(new int[0]);
+        return transicoes.size() - 1;
+    }
+
+    private void inserir(String termo, int indiceTermo) {
+        int estado = 0;
+        for (int i = 0; i < termo.length(); i++) {
+            Integer proximo = transicoes.get(estado).get(termo.charAt(i));
+            if (proximo == null) {
+                proximo = criarEstado();
+                transicoes.get(estado).put(termo.charAt(i), proximo);
+            }
+            estado = proximo;
+        }
+        saidas.set(estado, adicionar(saidas.get(estado), indiceTermo));
+    }
+
+    // Busca em largura: a falha de cada estado aponta para o maior sufixo que também é prefixo de um termo
+    private void calcularFalhas() {
+        falhas = new int[transicoes.size()];
+        // Os estados de profundidade 1 falham para o estado inicial
+        Queue<Integer> fila = new ArrayDeque<>(transicoes.get(0).values());
+
+        while (!fila.isEmpty()) {
+            int estado = fila.poll();
+            for (Map.Entry<Character, Integer> transicao : transicoes.get(estado).entrySet()) {
+                int filho = transicao.getValue();
+                int falha = transitar(falhas[estado], transicao.getKey());
+                falhas[filho] = falha;
+                // Termos que terminam no estado de falha também terminam no filho
+                for (int indiceTermo : saidas.get(falha)) {
+                    saidas.set(filho, adicionar(saidas.get(filho), indiceTermo));
+                }
+                fila.add(filho);
+            }
+        }
+    }
+
+    private int transitar(int estado, char caractere) {
+        while (true) {
+            Integer proximo = transicoes.get(estado).get(caractere);
+            if (proximo != null) {
+                return proximo;
+            }
+            if (estado == 0) {
+                return 0;
+            }
+            estado = falhas[estado];
+        }
+    }
+
+    private static int[] adicionar(int[] indices, int indice) {
+        int[] novos = Arrays.copyOf(indices, indices.length + 1);
+        novos[indices.length] = indice;
+        return novos;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.pablovns.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.domain.Usuario;
+
+import java.time.LocalDateTime;
+
+/**
+ * Configuração única do Gson compartilhada pelos serviços.
+ * A instância só é criada no primeiro uso, para não atrasar a abertura do menu.
+ */
+public class ConfiguracaoGson {
+
+    private ConfiguracaoGson() {
+        throw new IllegalStateException("Classe utilitária não deve ser instanciada");
+    }
+
+    public static Gson gson() {
+        return Instancia.GSON;
+    }
+
+    // Inicializada pela JVM apenas quando gson() é chamado pela primeira vez
+    private static class Instancia {
+        private static final Gson GSON = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .registerTypeAdapter(TipoNoticia.class, new TipoNoticiaAdapter())
+                .registerTypeAdapter(Noticia.class, new NoticiaAdapter())
+                .registerTypeAdapter(Usuario.class, new UsuarioAdapter())
+                .setPrettyPrinting()
+                .create();
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.pablovns.utils;
+
+import io.github.pablovns.domain.Noticia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Agrupa notícias quase idênticas (como uma notícia e o release correspondente).
+ * <p>
+ * Cada notícia recebe uma assinatura MinHash das palavras do título e da introdução, que estima a
+ * semelhança de Jaccard entre os textos. A assinatura é dividida em {@value #FAIXAS} faixas indexadas
+ * separadamente (LSH): só são comparadas as notícias que coincidem em alguma faixa inteira,
+ * sem comparar todos os pares.
+ */
+public class DetectorDuplicatas {
+    private static final int FAIXAS = 8;
+    private static final int LINHAS_POR_FAIXA = 4;
+    private static final int TAMANHO_ASSINATURA = FAIXAS * LINHAS_POR_FAIXA;
+    // Fração mínima de valores iguais na assinatura (semelhança de Jaccard estimada)
+    private static final double SEMELHANCA_MINIMA = 0.7;
+    private static final Pattern SEPARADOR_PALAVRAS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long[] SEMENTES = new long[TAMANHO_ASSINATURA];
+
+    static {
+        for (int i = 0; i < TAMANHO_ASSINATURA; i++) {
+            SEMENTES[i] = misturar(i + 1L);
+        }
+    }
+
+    private final Map<Long, int[]> assinaturaPorId = new HashMap<>();
+    private final Map<Long, Long> grupoPorId = new HashMap<>();
+    private final List<Map<Long, List<Long>>> indicePorFaixa = new ArrayList<>(FAIXAS);
+
+    public DetectorDuplicatas() {
+        for (int i = 0; i < FAIXAS; i++) {
+            indicePorFaixa.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Registra a notícia no índice e retorna o ID do grupo a que ela pertence,
+     * que é o ID da primeira notícia semelhante registrada (ou o dela própria).
+     * Notícias sem nenhuma palavra no título e na introdução formam sempre um grupo próprio.
+     */
+    public long agrupar(Noticia noticia) {
+        Long grupoExistente = grupoPorId.get(noticia.getId());
+        if (grupoExistente != null) {
+            return grupoExistente;
+        }
+
+        Optional<int[]> assinaturaCalculada = calcularAssinatura(
+                Objects.toString(noticia.getTitulo(), "") + " " + Objects.toString(noticia.getIntroducao(), ""));
+        if (assinaturaCalculada.isEmpty()) {
+            grupoPorId.put(noticia.getId(), noticia.getId());
+            return noticia.getId();
+        }
+
+        int[] assinatura = assinaturaCalculada.get();
+        long grupo = buscarSemelhante(assinatura).map(grupoPorId::get).orElse(noticia.getId());
+
+        assinaturaPorId.put(noticia.getId(), assinatura);
+        grupoPorId.put(noticia.getId(), grupo);
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            indicePorFaixa.get(faixa)
+                    .computeIfAbsent(chaveFaixa(assinatura, faixa), f -> new ArrayList<>())
+                    .add(noticia.getId());
+        }
+        return grupo;
+    }
+
+    /**
+     * Retorna uma notícia por grupo de semelhantes, na ordem em que os grupos aparecem na lista.
+     */
+    public List<Noticia> removerSemelhantes(List<Noticia> noticias) {
+        Map<Long, Noticia> representantes = new LinkedHashMap<>();
+        for (Noticia noticia : noticias) {
+            representantes.putIfAbsent(agrupar(noticia), noticia);
+        }
+        return new ArrayList<>(representantes.values());
+    }
+
+    private Optional<Long> buscarSemelhante(int[] assinatura) {
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            List<Long> candidatos = indicePorFaixa.get(faixa).get(chaveFaixa(assinatura, faixa));
+            if (candidatos == null) {
+                continue;
+            }
+            for (Long id : candidatos) {
+                if (semelhanca(assinatura, assinaturaPorId.get(id)) >= SEMELHANCA_MINIMA) {
+                    return Optional.of(id);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static double semelhanca(int[] a, int[] b) {
+        int iguais = 0;
+        for (int i = 0; i < TAMANHO_ASSINATURA; i++) {
+            if (a[i] == b[i]) {
+                iguais++;
+            }
+        }
+        return (double) iguais / TAMANHO_ASSINATURA;
+    }
+
+    private static long chaveFaixa(int[] assinatura, int faixa) {
+        long chave = faixa;
+        for (int i = faixa * LINHAS_POR_FAIXA; i < (faixa + 1) * LINHAS_POR_FAIXA; i++) {
+            chave = misturar(chave * 31 + assinatura[i]);
+        }
+        return chave;
+    }
+
+    /**
+     * Para cada uma das funções de hash (derivadas das sementes), guarda o menor valor entre as palavras do texto.
+     * Retorna vazio quando o texto não tem palavras, já que a assinatura não teria nenhum valor calculado.
+     */
+    private static Optional<int[]> calcularAssinatura(String texto) {
+        int[] assinatura = new int[TAMANHO_ASSINATURA];
+        Arrays.fill(assinatura, Integer.MAX_VALUE);
+        boolean possuiPalavras = false;
+
+        for (String palavra : SEPARADOR_PALAVRAS.split(NormalizadorTexto.normalizar(texto))) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            possuiPalavras = true;
+            long hashPalavra = hashTexto(palavra);
+            for (int i = 0; i < TAMANHO_ASSINATURA; i++) {
+                int valor = (int) misturar(hashPalavra ^ SEMENTES[i]);
+                if (valor < assinatura[i]) {
+                    assinatura[i] = valor;
+                }
+            }
+        }
+        return possuiPalavras ? Optional.of(assinatura) : Optional.empty();
+    }
+
+    // FNV-1a de 64 bits
+    private static long hashTexto(String texto) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < texto.length(); i++) {
+            hash ^= texto.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Mistura final do SplitMix64, para espalhar bem os bits
+    private static long misturar(long valor) {
+        valor = (valor ^ (valor >>> 30)) * 0xbf58476d1ce4e5b9L;
+        valor = (valor ^ (valor >>> 27)) * 0x94d049bb133111ebL;
+        return valor ^ (valor >>> 31);
+    }
+}
@@ -1,35 +1,42 @@
 package io.github.pablovns.utils;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
-public class LocalDateTimeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
-    private static final DateTimeFormatter[] formatters = {
-            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"),
-            DateTimeFormatter.ISO_LOCAL_DATE_TIME
-    };
+public class LocalDateTimeAdapter extends TypeAdapter<LocalDateTime> {
+    // Formato da API do IBGE
+    private static final DateTimeFormatter FORMATO_API = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    // Formato usado no arquivo do usuário
+    private static final DateTimeFormatter FORMATO_ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Override
-    public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(formatters[0].format(src));
+    public void write(JsonWriter out, LocalDateTime data) throws IOException {
+        out.value(data == null ? null : FORMATO_ISO.format(data));
     }
 
     @Override
-    public LocalDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        String dateStr = json.getAsString();
-
-        for (DateTimeFormatter formatter : formatters) {
-            try {
-                return LocalDateTime.parse(dateStr, formatter);
-            } catch (DateTimeParseException ignored) {
-                // Ignora a exceção e tenta o próximo formato
-            }
+    public LocalDateTime read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
         }
 
-        throw new JsonParseException("Não foi possível converter a data: " + dateStr);
+        String dateStr = in.nextString();
+        // Escolhe o formato pelo separador ISO em vez de tentar cada um e capturar a exceção
+        DateTimeFormatter formatter = dateStr.indexOf('T') >= 0 ? FORMATO_ISO : FORMATO_API;
+
+        try {
+            return LocalDateTime.parse(dateStr, formatter);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException("Não foi possível converter a data: " + dateStr, e);
+        }
     }
-}
\ No newline at end of file
+}
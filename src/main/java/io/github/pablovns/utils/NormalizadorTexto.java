@@ -0,0 +1,22 @@
+package io.github.pablovns.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class NormalizadorTexto {
+    private static final Pattern MARCAS_ACENTO = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private NormalizadorTexto() {
+        throw new IllegalStateException("Classe utilitária não deve ser instanciada");
+    }
+
+    /**
+     * Remove acentos, converte para minúsculas e reduz espaços repetidos.
+     */
+    public static String normalizar(String texto) {
+        String semAcentos = MARCAS_ACENTO.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+}
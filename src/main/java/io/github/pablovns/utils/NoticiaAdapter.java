@@ -0,0 +1,111 @@
+package io.github.pablovns.utils;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Converte notícias diretamente a partir dos tokens JSON, sem reflexão.
+ * Lê tanto os itens da API do IBGE quanto as notícias salvas no arquivo do usuário;
+ * campos desconhecidos são ignorados.
+ */
+public class NoticiaAdapter extends TypeAdapter<Noticia> {
+    private final LocalDateTimeAdapter dataAdapter = new LocalDateTimeAdapter();
+    private final TipoNoticiaAdapter tipoAdapter = new TipoNoticiaAdapter();
+
+    @Override
+    public void write(JsonWriter out, Noticia noticia) throws IOException {
+        if (noticia == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id").value(noticia.getId());
+        out.name("titulo").value(noticia.getTitulo());
+        out.name("introducao").value(noticia.getIntroducao());
+        out.name("data_publicacao");
+        dataAdapter.write(out, noticia.getDataPublicacao());
+        out.name("link").value(noticia.getLink());
+        out.name("tipo");
+        tipoAdapter.write(out, noticia.getTipo());
+        out.name("lida").value(noticia.isLida());
+        out.name("favorita").value(noticia.isFavorita());
+        out.name("paraLerDepois").value(noticia.isParaLerDepois());
+        out.endObject();
+    }
+
+    /**
+     * Lê o objeto inteiro mesmo quando um campo é inválido, lançando o erro só no final.
+     * Assim o leitor fica posicionado no próximo item e a leitura de uma lista pode continuar.
+     */
+    @Override
+    public Noticia read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        Long id = null;
+        String titulo = null;
+        String introducao = null;
+        LocalDateTime dataPublicacao = null;
+        String link = null;
+        TipoNoticia tipo = null;
+        boolean lida = false;
+        boolean favorita = false;
+        boolean paraLerDepois = false;
+        JsonParseException erro = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String campo = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+
+            try {
+                switch (campo) {
+                    case "id" -> id = in.nextLong();
+                    case "titulo" -> titulo = in.nextString();
+                    case "introducao" -> introducao = in.nextString();
+                    case "data_publicacao" -> dataPublicacao = dataAdapter.read(in);
+                    case "link" -> link = in.nextString();
+                    case "tipo" -> tipo = tipoAdapter.read(in);
+                    case "lida" -> lida = in.nextBoolean();
+                    case "favorita" -> favorita = in.nextBoolean();
+                    case "paraLerDepois" -> paraLerDepois = in.nextBoolean();
+                    default -> in.skipValue();
+                }
+            } catch (JsonParseException | NumberFormatException | IllegalStateException e) {
+                if (erro == null) {
+                    erro = new JsonParseException("Campo \"" + campo + "\" inválido: " + e.getMessage(), e);
+                }
+                // Descarta o valor caso a falha tenha ocorrido antes de consumi-lo
+                JsonToken proximo = in.peek();
+                if (proximo != JsonToken.NAME && proximo != JsonToken.END_OBJECT) {
+                    in.skipValue();
+                }
+            }
+        }
+        in.endObject();
+
+        if (erro != null) {
+            throw erro;
+        }
+
+        Noticia noticia = new Noticia(id, titulo, introducao, dataPublicacao, link, tipo);
+        noticia.setLida(lida);
+        noticia.setFavorita(favorita);
+        noticia.setParaLerDepois(paraLerDepois);
+        return noticia;
+    }
+}
@@ -2,10 +2,17 @@ package io.github.pablovns.utils;
 
 import io.github.pablovns.domain.Noticia;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 public class OrdenadorNoticias {
+    // Notícias sem data de publicação ficam no final
+    private static final Comparator<Noticia> POR_DATA =
+            Comparator.comparing(Noticia::getDataPublicacao, Comparator.nullsLast(Comparator.naturalOrder()));
 
     private OrdenadorNoticias() {
         throw new IllegalStateException("Classe utilitária não deve ser instanciada");
@@ -19,7 +26,7 @@ public class OrdenadorNoticias {
 
     public static List<Noticia> ordenarPorData(List<Noticia> noticias) {
         return noticias.stream()
-                .sorted(Comparator.comparing(Noticia::getDataPublicacao))
+                .sorted(POR_DATA)
                 .toList();
     }
 
@@ -34,4 +41,53 @@ public class OrdenadorNoticias {
                 .sorted(Comparator.comparing(Noticia::getId).reversed())
                 .toList();
     }
+
+    /**
+     * Mescla várias listas de notícias em uma única lista ordenada por data de publicação,
+     * descartando notícias repetidas (mesmo ID). Notícias sem data vão para o final.
+     * Cada lista é ordenada individualmente e depois combinada em uma intercalação de k vias,
+     * sem precisar reordenar o resultado completo.
+     */
+    public static List<Noticia> mesclarPorData(List<List<Noticia>> listas) {
+        Comparator<Cursor> porData = Comparator.comparing(Cursor::atual, POR_DATA);
+        PriorityQueue<Cursor> fila = new PriorityQueue<>(porData);
+        int total = 0;
+
+        for (List<Noticia> lista : listas) {
+            if (!lista.isEmpty()) {
+                fila.add(new Cursor(ordenarPorData(lista), 0));
+                total += lista.size();
+            }
+        }
+
+        List<Noticia> mescladas = new ArrayList<>(total);
+        Set<Long> idsVistos = new HashSet<>();
+
+        while (!fila.isEmpty()) {
+            Cursor cursor = fila.poll();
+            Noticia noticia = cursor.atual();
+            if (idsVistos.add(noticia.getId())) {
+                mescladas.add(noticia);
+            }
+            if (cursor.temProximo()) {
+                fila.add(cursor.proximo());
+            }
+        }
+
+        return mescladas;
+    }
+
+    private record Cursor(List<Noticia> lista, int posicao) {
+        Noticia atual() {
+            return lista.get(posicao);
+        }
+
+        boolean temProximo() {
+            return posicao + 1 < lista.size();
+        }
+
+        Cursor proximo() {
+            return new Cursor(lista, posicao + 1);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package io.github.pablovns.utils;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.pablovns.domain.TipoNoticia;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class TipoNoticiaAdapter extends TypeAdapter<TipoNoticia> {
+    // A API envia a descrição ("Notícia"); o arquivo do usuário guarda o nome ("NOTICIA")
+    private static final Map<String, TipoNoticia> TIPOS_POR_TEXTO = new HashMap<>();
+
+    static {
+        for (TipoNoticia tipo : TipoNoticia.values()) {
+            TIPOS_POR_TEXTO.put(tipo.getDescricao().toLowerCase(Locale.ROOT), tipo);
+            TIPOS_POR_TEXTO.put(tipo.name().toLowerCase(Locale.ROOT), tipo);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter out, TipoNoticia tipo) throws IOException {
+        out.value(tipo == null ? null : tipo.name());
+    }
+
+    @Override
+    public TipoNoticia read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String texto = in.nextString();
+        TipoNoticia tipo = TIPOS_POR_TEXTO.get(texto.toLowerCase(Locale.ROOT));
+        if (tipo == null) {
+            throw new JsonParseException("Tipo de notícia desconhecido: " + texto);
+        }
+        return tipo;
+    }
+}
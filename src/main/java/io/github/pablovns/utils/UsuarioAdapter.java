@@ -0,0 +1,141 @@
+package io.github.pablovns.utils;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.Usuario;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte o usuário e suas notícias diretamente a partir dos tokens JSON, sem reflexão.
+ * As buscas salvas, as novidades e as novidades vistas só são gravadas quando existem, mantendo o formato dos
+ * arquivos anteriores a elas; uma notícia inválida no arquivo é descartada sem perder as demais.
+ */
+public class UsuarioAdapter extends TypeAdapter<Usuario> {
+    private final NoticiaAdapter noticiaAdapter = new NoticiaAdapter();
+
+    @Override
+    public void write(JsonWriter out, Usuario usuario) throws IOException {
+        if (usuario == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("nome").value(usuario.getNome());
+        out.name("noticias");
+        escreverNoticias(out, usuario.getNoticias());
+        if (!usuario.getBuscasSalvas().isEmpty()) {
+            out.name("buscasSalvas").beginArray();
+            for (String busca : usuario.getBuscasSalvas()) {
+                out.value(busca);
+            }
+            out.endArray();
+        }
+        if (!usuario.getNovidades().isEmpty()) {
+            out.name("novidades");
+            escreverNoticias(out, usuario.getNovidades());
+        }
+        if (!usuario.getNovidadesVistas().isEmpty()) {
+            out.name("novidadesVistas").beginArray();
+            for (Long id : usuario.getNovidadesVistas()) {
+                out.value(id);
+            }
+            out.endArray();
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Usuario read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String nome = null;
+        List<Noticia> noticias = new ArrayList<>();
+        List<String> buscasSalvas = new ArrayList<>();
+        List<Noticia> novidades = new ArrayList<>();
+        List<Long> novidadesVistas = new ArrayList<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String campo = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+
+            switch (campo) {
+                case "nome" -> nome = in.nextString();
+                case "noticias" -> lerNoticias(in, noticias);
+                case "novidades" -> lerNoticias(in, novidades);
+                case "buscasSalvas" -> {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        buscasSalvas.add(in.nextString());
+                    }
+                    in.endArray();
+                }
+                case "novidadesVistas" -> {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        novidadesVistas.add(in.nextLong());
+                    }
+                    in.endArray();
+                }
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        Usuario usuario = new Usuario(nome);
+        usuario.getNoticias().addAll(noticias);
+        usuario.getBuscasSalvas().addAll(buscasSalvas);
+        usuario.getNovidadesVistas().addAll(novidadesVistas);
+        // Arquivos anteriores a novidadesVistas: as novidades presentes também contam como vistas
+        for (Noticia novidade : novidades) {
+            usuario.getNovidades().add(novidade);
+            usuario.getNovidadesVistas().add(novidade.getId());
+        }
+        return usuario;
+    }
+
+    private void escreverNoticias(JsonWriter out, List<Noticia> noticias) throws IOException {
+        out.beginArray();
+        for (Noticia noticia : noticias) {
+            noticiaAdapter.write(out, noticia);
+        }
+        out.endArray();
+    }
+
+    private void lerNoticias(JsonReader in, List<Noticia> destino) throws IOException {
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() != JsonToken.BEGIN_OBJECT && in.peek() != JsonToken.NULL) {
+                System.err.println("Notícia ignorada: esperado um objeto, encontrado " + in.peek());
+                in.skipValue();
+                continue;
+            }
+
+            try {
+                Noticia noticia = noticiaAdapter.read(in);
+                if (noticia != null && noticia.getId() != null) {
+                    destino.add(noticia);
+                } else if (noticia != null) {
+                    System.err.println("Notícia ignorada: sem id");
+                }
+            } catch (JsonParseException e) {
+                System.err.println("Notícia ignorada: " + e.getMessage());
+            }
+        }
+        in.endArray();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.pablovns.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsuarioTest {
+
+    @Test
+    void alteracaoEmLoteUsaAsInstanciasSalvasEAdicionaAsNovas() {
+        Usuario usuario = new Usuario("Ana");
+        Noticia salva = noticia(1L);
+        salva.setFavorita(true);
+        usuario.salvarOuAtualizarNoticia(salva);
+
+        // A lista exibida traz cópias vindas da API, sem as marcações do usuário
+        List<Noticia> exibidas = new ArrayList<>(List.of(noticia(1L), noticia(2L)));
+
+        int alteradas = usuario.alterarEmLote(exibidas, n -> !n.isLida(), n -> n.setLida(true));
+
+        assertEquals(2, alteradas);
+        assertSame(salva, exibidas.get(0));
+        assertTrue(salva.isLida());
+        assertTrue(salva.isFavorita());
+        assertEquals(List.of(1L, 2L), usuario.getNoticias().stream().map(Noticia::getId).toList());
+        assertSame(exibidas.get(1), usuario.getNoticias().get(1));
+        assertTrue(exibidas.get(1).isLida());
+    }
+
+    @Test
+    void alteracaoEmLoteNaoAdicionaNoticiasForaDoCriterio() {
+        Usuario usuario = new Usuario("Ana");
+        Noticia lida = noticia(1L);
+        lida.setLida(true);
+        List<Noticia> exibidas = new ArrayList<>(List.of(lida, noticia(2L)));
+
+        int alteradas = usuario.alterarEmLote(exibidas, n -> !n.isLida(), n -> n.setLida(true));
+
+        assertEquals(1, alteradas);
+        assertEquals(List.of(2L), usuario.getNoticias().stream().map(Noticia::getId).toList());
+    }
+
+    @Test
+    void alteracaoEmLoteDasSalvasAlteraApenasAsQueAtendemAoCriterio() {
+        Usuario usuario = new Usuario("Ana");
+        for (long id = 1; id <= 3; id++) {
+            Noticia noticia = noticia(id);
+            noticia.setParaLerDepois(true);
+            usuario.salvarOuAtualizarNoticia(noticia);
+        }
+
+        int alteradas = usuario.alterarEmLote(n -> n.getId() != 2L, n -> n.setParaLerDepois(false));
+
+        assertEquals(2, alteradas);
+        assertEquals(List.of(2L), usuario.listarNoticiasParaLerDepois().stream().map(Noticia::getId).toList());
+        assertFalse(usuario.obterNoticia(1L).orElseThrow().isParaLerDepois());
+    }
+
+    private static Noticia noticia(Long id) {
+        return new Noticia(id, "Notícia " + id, "Introdução", LocalDateTime.of(2025, 3, 1, 8, 0),
+                "http://agenciadenoticias.ibge.gov.br/" + id + ".html", TipoNoticia.NOTICIA);
+    }
+}
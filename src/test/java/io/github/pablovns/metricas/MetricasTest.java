@@ -0,0 +1,91 @@
+package io.github.pablovns.metricas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricasTest {
+
+    @Test
+    void histogramaExportaFaixasAcumuladasSomaEContagem() {
+        Histograma histograma = Metricas.histograma("teste_histograma_segundos", "Histograma de teste");
+        histograma.registrar(500_000L);         // 0,0005 s -> faixa 0.001
+        histograma.registrar(3_000_000L);       // 0,003 s -> faixa 0.005
+        histograma.registrar(3_000_000L);
+        histograma.registrar(2_000_000_000L);   // 2 s -> faixa 2.5
+        histograma.registrar(60_000_000_000L);  // 60 s -> só +Inf
+
+        StringBuilder saida = new StringBuilder();
+        histograma.exportarPrometheus(saida);
+
+        assertEquals("""
+                # HELP teste_histograma_segundos Histograma de teste
+                # TYPE teste_histograma_segundos histogram
+                teste_histograma_segundos_bucket{le="0.001"} 1
+                teste_histograma_segundos_bucket{le="0.005"} 3
+                teste_histograma_segundos_bucket{le="0.01"} 3
+                teste_histograma_segundos_bucket{le="0.025"} 3
+                teste_histograma_segundos_bucket{le="0.05"} 3
+                teste_histograma_segundos_bucket{le="0.1"} 3
+                teste_histograma_segundos_bucket{le="0.25"} 3
+                teste_histograma_segundos_bucket{le="0.5"} 3
+                teste_histograma_segundos_bucket{le="1.0"} 3
+                teste_histograma_segundos_bucket{le="2.5"} 4
+                teste_histograma_segundos_bucket{le="5.0"} 4
+                teste_histograma_segundos_bucket{le="10.0"} 4
+                teste_histograma_segundos_bucket{le="+Inf"} 5
+                teste_histograma_segundos_sum 62.0065
+                teste_histograma_segundos_count 5
+                """, saida.toString());
+    }
+
+    @Test
+    void valorNoLimiteDaFaixaEntraNela() {
+        Histograma histograma = Metricas.histograma("teste_limite_segundos", "Limite");
+        histograma.registrar(10_000_000L); // exatamente 0,01 s
+
+        StringBuilder saida = new StringBuilder();
+        histograma.exportarPrometheus(saida);
+
+        assertTrue(saida.toString().contains("teste_limite_segundos_bucket{le=\"0.005\"} 0\n"));
+        assertTrue(saida.toString().contains("teste_limite_segundos_bucket{le=\"0.01\"} 1\n"));
+    }
+
+    @Test
+    void contadorEIndicadorUsamOFormatoTexto() {
+        Contador contador = Metricas.contador("teste_eventos_total", "Eventos de teste");
+        contador.incrementar();
+        contador.adicionar(41);
+        AtomicLong fila = new AtomicLong(7);
+        Indicador indicador = Metricas.indicador("teste_fila", "Tamanho da fila de teste", fila::get);
+
+        StringBuilder saida = new StringBuilder();
+        contador.exportarPrometheus(saida);
+        fila.set(3); // O indicador é lido no momento da exportação
+        indicador.exportarPrometheus(saida);
+
+        assertEquals("""
+                # HELP teste_eventos_total Eventos de teste
+                # TYPE teste_eventos_total counter
+                teste_eventos_total 42
+                # HELP teste_fila Tamanho da fila de teste
+                # TYPE teste_fila gauge
+                teste_fila 3
+                """, saida.toString());
+    }
+
+    @Test
+    void exportacaoCompletaIncluiTodasAsMetricasRegistradas() {
+        Metricas.contador("teste_completo_total", "Contador registrado").incrementar();
+        Metricas.medir("teste", Metricas.histograma("teste_completo_segundos", "Histograma registrado")).parar();
+
+        String saida = Metricas.exportarPrometheus();
+
+        assertTrue(saida.contains("# TYPE teste_completo_total counter\nteste_completo_total 1\n"));
+        assertTrue(saida.contains("teste_completo_segundos_count 1\n"));
+        assertTrue(saida.contains("# TYPE noticias_http_duracao_segundos histogram\n"));
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.pablovns.services;
+
+import io.github.pablovns.services.AgendadorRequisicoes.Prioridade;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AgendadorRequisicoesTest {
+    private static final long ESPERA_MAXIMA_MS = 5_000;
+
+    // Taxa alta para que só o limite de uma requisição em andamento determine a ordem
+    private final AgendadorRequisicoes agendador = new AgendadorRequisicoes(1_000, 2, 1);
+    private final CountDownLatch liberarPrimeira = new CountDownLatch(1);
+    private final List<String> atendidas = new CopyOnWriteArrayList<>();
+
+    @Test
+    void interativaNaFilaPassaNaFrenteDaSegundoPlano() throws InterruptedException {
+        Thread ocupante = ocuparVaga();
+        Thread segundoPlano = iniciar("segundo plano", Prioridade.SEGUNDO_PLANO);
+        aguardar(() -> agendador.tamanhoFila(Prioridade.SEGUNDO_PLANO) == 1);
+        Thread interativa = iniciar("interativa", Prioridade.INTERATIVA);
+        aguardar(() -> agendador.tamanhoFila(Prioridade.INTERATIVA) == 1);
+
+        liberarPrimeira.countDown();
+        encerrar(ocupante, segundoPlano, interativa);
+
+        assertEquals(List.of("ocupante", "interativa", "segundo plano"), atendidas);
+        assertEquals(0, agendador.getEmAndamento());
+    }
+
+    @Test
+    void vagaEhLiberadaQuandoARequisicaoFalha() {
+        assertThrows(IOException.class, () -> agendador.executar(Prioridade.INTERATIVA, () -> {
+            throw new IOException("falha simulada");
+        }));
+
+        assertEquals(0, agendador.getEmAndamento());
+    }
+
+    @Test
+    void esperaInterrompidaSaiDaFilaSemBloquearAsSeguintes() throws InterruptedException {
+        Thread ocupante = ocuparVaga();
+        AtomicReference<Throwable> erroInterrompida = new AtomicReference<>();
+        Thread interrompida = new Thread(() -> {
+            try {
+                agendador.executar(Prioridade.INTERATIVA, () -> atendidas.add("interrompida"));
+            } catch (Exception e) {
+                erroInterrompida.set(e);
+            }
+        });
+        interrompida.start();
+        aguardar(() -> agendador.tamanhoFila(Prioridade.INTERATIVA) == 1);
+        Thread seguinte = iniciar("seguinte", Prioridade.SEGUNDO_PLANO);
+        aguardar(() -> agendador.tamanhoFila(Prioridade.SEGUNDO_PLANO) == 1);
+
+        interrompida.interrupt();
+        encerrar(interrompida);
+        assertTrue(erroInterrompida.get() instanceof InterruptedException);
+        assertEquals(0, agendador.tamanhoFila(Prioridade.INTERATIVA));
+
+        liberarPrimeira.countDown();
+        encerrar(ocupante, seguinte);
+
+        assertEquals(List.of("ocupante", "seguinte"), atendidas);
+        assertEquals(0, agendador.getEmAndamento());
+    }
+
+    // Mantém a única vaga ocupada até liberarPrimeira ser acionado
+    private Thread ocuparVaga() throws InterruptedException {
+        Thread ocupante = new Thread(() -> {
+            try {
+                agendador.executar(Prioridade.SEGUNDO_PLANO, () -> {
+                    atendidas.add("ocupante");
+                    return liberarPrimeira.await(ESPERA_MAXIMA_MS, TimeUnit.MILLISECONDS);
+                });
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        ocupante.start();
+        aguardar(() -> agendador.getEmAndamento() == 1);
+        return ocupante;
+    }
+
+    private Thread iniciar(String nome, Prioridade prioridade) {
+        Thread thread = new Thread(() -> {
+            try {
+                agendador.executar(prioridade, () -> atendidas.add(nome));
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < limite, "Tempo esgotado aguardando o agendador");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void encerrar(Thread... threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(ESPERA_MAXIMA_MS);
+            assertFalse(thread.isAlive(), "Thread ainda aguardando: " + thread.getName());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.pablovns.services;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.domain.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuscaSalvaServiceTest {
+    private final BuscaSalvaService service = new BuscaSalvaService();
+    private Usuario usuario;
+
+    @BeforeEach
+    void criarUsuario() {
+        usuario = new Usuario("Ana");
+        usuario.adicionarBuscaSalva("censo");
+    }
+
+    @Test
+    void adicionaApenasAsNoticiasEncontradasENaoLidas() {
+        Noticia lida = noticia(2L, "Censo agropecuário");
+        lida.setLida(true);
+        usuario.salvarOuAtualizarNoticia(lida);
+
+        int adicionadas = service.avaliar(usuario, List.of(
+                noticia(1L, "Resultados do Censo"),
+                noticia(2L, "Censo agropecuário"),
+                noticia(3L, "Inflação de maio")));
+
+        assertEquals(1, adicionadas);
+        assertEquals(List.of(1L), usuario.getNovidades().stream().map(Noticia::getId).toList());
+    }
+
+    @Test
+    void novidadesLimpasNaoVoltam() {
+        List<Noticia> recentes = List.of(noticia(1L, "Resultados do Censo"), noticia(2L, "Censo 2022"));
+        assertEquals(2, service.avaliar(usuario, recentes));
+        assertEquals(0, service.avaliar(usuario, recentes));
+
+        usuario.limparNovidades();
+
+        assertEquals(0, service.avaliar(usuario, recentes));
+        assertTrue(usuario.getNovidades().isEmpty());
+        assertEquals(1, service.avaliar(usuario, List.of(noticia(3L, "Novo censo"))));
+    }
+
+    @Test
+    void resultadosJaVistosEmUmaBuscaNaoViramNovidade() {
+        List<Noticia> busca = List.of(noticia(1L, "Resultados do Censo"), noticia(2L, "Inflação de maio"));
+
+        assertEquals(1, service.marcarVistas(usuario, busca));
+
+        assertEquals(0, service.avaliar(usuario, busca));
+        assertTrue(usuario.getNovidades().isEmpty());
+    }
+
+    @Test
+    void semBuscasSalvasNadaEhAvaliado() {
+        usuario.removerBuscaSalva("censo");
+
+        assertEquals(0, service.avaliar(usuario, List.of(noticia(1L, "Resultados do Censo"))));
+        assertTrue(usuario.getNovidadesVistas().isEmpty());
+    }
+
+    private static Noticia noticia(Long id, String titulo) {
+        return new Noticia(id, titulo, "Introdução", LocalDateTime.of(2025, 3, 1, 8, 0),
+                "http://agenciadenoticias.ibge.gov.br/" + id + ".html", TipoNoticia.NOTICIA);
+    }
+}
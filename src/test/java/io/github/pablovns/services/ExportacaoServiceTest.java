@@ -0,0 +1,158 @@
+package io.github.pablovns.services;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.domain.Usuario;
+import io.github.pablovns.utils.ConfiguracaoGson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportacaoServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final ExportacaoService exportacaoService = new ExportacaoService();
+
+    @ParameterizedTest
+    @EnumSource(ExportacaoService.Formato.class)
+    void exportacaoEImportacaoPreservamTextosComCaracteresEspeciais(ExportacaoService.Formato formato) throws IOException {
+        Usuario usuario = new Usuario("Ana");
+        usuario.getBuscasSalvas().add("censo");
+        Noticia especial = noticia(1L, TipoNoticia.NOTICIA,
+                "Vírgulas, \"aspas\" e \"\"aspas duplas\"\"",
+                "Primeira linha\r\nsegunda linha\ncom quebra, vírgula e \"aspas\"\r");
+        especial.setFavorita(true);
+        Noticia simples = noticia(2L, TipoNoticia.RELEASE, "Release simples", null);
+        simples.setLida(true);
+        simples.setParaLerDepois(true);
+        usuario.getNoticias().addAll(List.of(especial, simples));
+
+        Path exportacao = diretorio.resolve("exportacao" + formato.getExtensao());
+        Path arquivoUsuario = diretorio.resolve("usuario.json");
+
+        assertEquals(OptionalLong.of(2), exportacaoService.exportarNoticiasUsuario(usuario, exportacao, formato));
+        assertEquals(OptionalLong.of(2), exportacaoService.importarUsuario(exportacao, new Usuario("Ana"), arquivoUsuario));
+
+        Usuario importado = lerUsuario(arquivoUsuario);
+        assertEquals(2, importado.getNoticias().size());
+        assertMesmaNoticia(especial, importado.getNoticias().get(0));
+        assertMesmaNoticia(simples, importado.getNoticias().get(1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExportacaoService.Formato.class)
+    void textoVazioENuloSaoPreservadosSemConfusao(ExportacaoService.Formato formato) throws IOException {
+        Usuario usuario = new Usuario("Ana");
+        Noticia tituloVazio = noticia(1L, TipoNoticia.NOTICIA, "", null);
+        tituloVazio.setLida(true);
+        Noticia introducaoVazia = noticia(2L, TipoNoticia.NOTICIA, null, "");
+        introducaoVazia.setLida(true);
+        usuario.getNoticias().addAll(List.of(tituloVazio, introducaoVazia));
+
+        Path exportacao = diretorio.resolve("exportacao" + formato.getExtensao());
+        Path arquivoUsuario = diretorio.resolve("usuario.json");
+        exportacaoService.exportarNoticiasUsuario(usuario, exportacao, formato);
+        exportacaoService.importarUsuario(exportacao, new Usuario("Ana"), arquivoUsuario);
+
+        Usuario importado = lerUsuario(arquivoUsuario);
+        assertMesmaNoticia(tituloVazio, importado.getNoticias().get(0));
+        assertMesmaNoticia(introducaoVazia, importado.getNoticias().get(1));
+    }
+
+    @Test
+    void csvGravaNuloComoCampoVazioETextoVazioEntreAspas() throws IOException {
+        Usuario usuario = new Usuario("Ana");
+        usuario.getNoticias().add(noticia(1L, TipoNoticia.NOTICIA, "", null));
+
+        Path exportacao = diretorio.resolve("exportacao" + ExportacaoService.Formato.CSV.getExtensao());
+        exportacaoService.exportarNoticiasUsuario(usuario, exportacao, ExportacaoService.Formato.CSV);
+
+        String linha;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(exportacao)), StandardCharsets.UTF_8))) {
+            reader.readLine();
+            linha = reader.readLine();
+        }
+        assertTrue(linha.startsWith("1,\"\",,2025-06-10T09:30,"), linha);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExportacaoService.Formato.class)
+    void importacaoIgnoraNoticiasSemMarcacao(ExportacaoService.Formato formato) throws IOException {
+        Usuario usuario = new Usuario("Ana");
+        Noticia marcada = noticia(1L, TipoNoticia.NOTICIA, "Marcada", "Introdução");
+        marcada.setLida(true);
+        usuario.getNoticias().addAll(List.of(marcada, noticia(2L, TipoNoticia.NOTICIA, "Sem marcação", "Introdução")));
+
+        Path exportacao = diretorio.resolve("exportacao" + formato.getExtensao());
+        Path arquivoUsuario = diretorio.resolve("usuario.json");
+        exportacaoService.exportarNoticiasUsuario(usuario, exportacao, formato);
+
+        assertEquals(OptionalLong.of(1), exportacaoService.importarUsuario(exportacao, usuario, arquivoUsuario));
+        assertEquals(List.of(1L), lerUsuario(arquivoUsuario).getNoticias().stream().map(Noticia::getId).toList());
+    }
+
+    @Test
+    void importacaoComFalhaMantemArquivoDoUsuario() throws IOException {
+        Path exportacao = diretorio.resolve("corrompida.ndjson.gz");
+        Files.writeString(exportacao, "não é gzip", StandardCharsets.UTF_8);
+        Path arquivoUsuario = diretorio.resolve("usuario.json");
+        Files.writeString(arquivoUsuario, "{\"nome\": \"Ana\"}", StandardCharsets.UTF_8);
+
+        assertTrue(exportacaoService.importarUsuario(exportacao, new Usuario("Ana"), arquivoUsuario).isEmpty());
+        assertEquals("{\"nome\": \"Ana\"}", Files.readString(arquivoUsuario, StandardCharsets.UTF_8));
+        assertFalse(Files.exists(diretorio.resolve("usuario.json.tmp")));
+    }
+
+    @Test
+    void exportacaoComFalhaNaoDeixaArquivoIncompleto() {
+        Path destino = diretorio.resolve("busca" + ExportacaoService.Formato.CSV.getExtensao());
+        // Sem servidor na porta, a primeira página falha e a exportação é abandonada
+        NoticiaService noticiaService = new NoticiaService("http://localhost:9/api/v3/noticias");
+
+        assertTrue(exportacaoService.exportarBusca(noticiaService, "censo", destino, ExportacaoService.Formato.CSV).isEmpty());
+        assertFalse(Files.exists(destino));
+    }
+
+    private static Usuario lerUsuario(Path arquivo) throws IOException {
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return ConfiguracaoGson.gson().fromJson(reader, Usuario.class);
+        }
+    }
+
+    private static void assertMesmaNoticia(Noticia esperada, Noticia obtida) {
+        assertEquals(esperada.getId(), obtida.getId());
+        assertEquals(esperada.getTitulo(), obtida.getTitulo());
+        assertEquals(esperada.getIntroducao(), obtida.getIntroducao());
+        assertEquals(esperada.getDataPublicacao(), obtida.getDataPublicacao());
+        assertEquals(esperada.getLink(), obtida.getLink());
+        assertEquals(esperada.getTipo(), obtida.getTipo());
+        assertEquals(esperada.isLida(), obtida.isLida());
+        assertEquals(esperada.isFavorita(), obtida.isFavorita());
+        assertEquals(esperada.isParaLerDepois(), obtida.isParaLerDepois());
+    }
+
+    private static Noticia noticia(Long id, TipoNoticia tipo, String titulo, String introducao) {
+        return new Noticia(id, titulo, introducao, LocalDateTime.of(2025, 6, 10, 9, 30),
+                "http://agenciadenoticias.ibge.gov.br/" + id + ".html", tipo);
+    }
+}
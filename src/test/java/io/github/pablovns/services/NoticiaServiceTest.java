@@ -0,0 +1,135 @@
+package io.github.pablovns.services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.services.AgendadorRequisicoes.Prioridade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoticiaServiceTest {
+    private static final String CAMINHO = "/api/v3/noticias";
+
+    private final List<String> consultas = new CopyOnWriteArrayList<>();
+    private HttpServer servidor;
+    private NoticiaService noticiaService;
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext(CAMINHO, this::responder);
+        servidor.start();
+        // Agendador próprio, para não depender do limite de taxa compartilhado
+        noticiaService = new NoticiaService("http://localhost:" + servidor.getAddress().getPort() + CAMINHO,
+                new AgendadorRequisicoes(1_000, 100, 8));
+    }
+
+    @AfterEach
+    void pararServidor() {
+        servidor.stop(0);
+    }
+
+    @Test
+    void periodoEhDivididoEmJanelasSemanaisComTodasAsPaginas() {
+        Optional<List<Noticia>> noticias = noticiaService.buscarPorPeriodo(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 16), Prioridade.INTERATIVA);
+
+        // Três janelas (a última cortada no fim do período), cada uma com duas páginas
+        assertEquals(List.of(
+                "de=03-01-2025&ate=03-07-2025&qtd=100&page=1",
+                "de=03-01-2025&ate=03-07-2025&qtd=100&page=2",
+                "de=03-08-2025&ate=03-14-2025&qtd=100&page=1",
+                "de=03-08-2025&ate=03-14-2025&qtd=100&page=2",
+                "de=03-15-2025&ate=03-16-2025&qtd=100&page=1",
+                "de=03-15-2025&ate=03-16-2025&qtd=100&page=2"), consultas.stream().sorted().toList());
+
+        // A notícia repetida em todas as páginas aparece uma única vez, e a lista fica ordenada por data
+        List<Long> ids = noticias.orElseThrow().stream().map(Noticia::getId).toList();
+        assertEquals(List.of(1L, 101L, 102L, 801L, 802L, 1501L, 1502L), ids);
+    }
+
+    @Test
+    void periodoDeUmDiaUsaUmaJanela() {
+        noticiaService.buscarPorPeriodo(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 10), Prioridade.INTERATIVA);
+
+        assertEquals(List.of(
+                "de=03-10-2025&ate=03-10-2025&qtd=100&page=1",
+                "de=03-10-2025&ate=03-10-2025&qtd=100&page=2"), consultas.stream().sorted().toList());
+    }
+
+    @Test
+    void limiteDeDiasEhVerificadoAntesDasRequisicoes() {
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+
+        assertTrue(noticiaService.buscarPorPeriodo(inicio, inicio.plusDays(NoticiaService.MAXIMO_DIAS_PERIODO),
+                Prioridade.INTERATIVA).isEmpty());
+        assertTrue(consultas.isEmpty());
+
+        assertTrue(noticiaService.buscarPorPeriodo(inicio, inicio.plusDays(NoticiaService.MAXIMO_DIAS_PERIODO - 1L),
+                Prioridade.INTERATIVA).isPresent());
+        assertEquals(2 * 53, consultas.size());
+    }
+
+    @Test
+    void periodosInvalidosNaoFazemRequisicoes() {
+        LocalDate hoje = LocalDate.now();
+
+        assertTrue(noticiaService.buscarPorPeriodo(hoje, hoje.minusDays(1), Prioridade.INTERATIVA).isEmpty());
+        assertTrue(noticiaService.buscarPorPeriodo(hoje, hoje.plusDays(1), Prioridade.INTERATIVA).isEmpty());
+        assertTrue(consultas.isEmpty());
+    }
+
+    /**
+     * Cada página tem uma notícia própria da janela e a notícia 1, repetida em todas as páginas.
+     * A notícia própria tem o ID formado pelo dia inicial da janela e a página, e é publicada nesse dia.
+     */
+    private void responder(HttpExchange troca) throws IOException {
+        try {
+            String consulta = troca.getRequestURI().getRawQuery().replaceFirst("^\\?", "");
+            consultas.add(consulta);
+
+            Map<String, String> parametros = new HashMap<>();
+            for (String parametro : consulta.split("&")) {
+                String[] chaveValor = parametro.split("=", 2);
+                parametros.put(chaveValor[0], chaveValor[1]);
+            }
+            String[] de = parametros.get("de").split("-");
+            int pagina = Integer.parseInt(parametros.get("page"));
+            long idJanela = Long.parseLong(de[1]);
+
+            List<String> itens = new ArrayList<>();
+            itens.add(item(1L, "01/01/2024 08:00:00"));
+            itens.add(item(idJanela * 100 + pagina, String.format("%s/%s/%s 1%d:00:00", de[1], de[0], de[2], pagina)));
+            String corpo = "{\"count\":4,\"page\":" + pagina + ",\"totalPages\":2,\"items\":[" + String.join(",", itens) + "]}";
+
+            byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+            troca.sendResponseHeaders(200, bytes.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(bytes);
+            }
+        } finally {
+            troca.close();
+        }
+    }
+
+    private static String item(long id, String data) {
+        return "{\"id\":" + id + ",\"tipo\":\"Notícia\",\"titulo\":\"Notícia " + id + "\",\"introducao\":\"\","
+                + "\"data_publicacao\":\"" + data + "\",\"link\":\"http://agenciadenoticias.ibge.gov.br/" + id + "\"}";
+    }
+}
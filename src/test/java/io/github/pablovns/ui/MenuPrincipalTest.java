@@ -0,0 +1,85 @@
+package io.github.pablovns.ui;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.domain.Usuario;
+import io.github.pablovns.services.UsuarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MenuPrincipalTest {
+    private final InputStream entradaOriginal = System.in;
+    private final PrintStream saidaOriginal = System.out;
+
+    @TempDir
+    Path diretorio;
+
+    @AfterEach
+    void restaurarConsole() {
+        System.setIn(entradaOriginal);
+        System.setOut(saidaOriginal);
+    }
+
+    @Test
+    void desmarcarParaLerDepoisAlteraTodasAsSalvasEGravaUmaVez() {
+        UsuarioServiceContador usuarioService = new UsuarioServiceContador(diretorio.toString());
+        Usuario usuario = new Usuario("Ana");
+        usuario.salvarOuAtualizarNoticia(paraLerDepois(1L, LocalDateTime.of(2025, 1, 10, 8, 0)));
+        usuario.salvarOuAtualizarNoticia(paraLerDepois(2L, null));
+        usuario.salvarOuAtualizarNoticia(paraLerDepois(3L, LocalDateTime.of(2025, 6, 1, 8, 0)));
+        Noticia favorita = paraLerDepois(4L, LocalDateTime.of(2024, 12, 1, 8, 0));
+        favorita.setParaLerDepois(false);
+        favorita.setFavorita(true);
+        usuario.salvarOuAtualizarNoticia(favorita);
+        usuarioService.salvarUsuario(usuario);
+        usuarioService.gravacoes.clear();
+
+        // Exibe as favoritas (só a notícia 4), desmarca as salvas anteriores a 01/03/2025, volta e sai
+        executar(usuarioService, "2", "0", "5", "01032025", "0", "0");
+
+        // Uma gravação pela ação em lote e outra ao sair
+        assertEquals(List.of(List.of(2L, 3L), List.of(2L, 3L)), usuarioService.gravacoes);
+    }
+
+    private static void executar(UsuarioService usuarioService, String... entradas) {
+        String entrada = String.join("\n", entradas) + "\n";
+        System.setIn(new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)));
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        new MenuPrincipal(usuarioService).iniciar();
+    }
+
+    private static Noticia paraLerDepois(Long id, LocalDateTime data) {
+        Noticia noticia = new Noticia(id, "Notícia " + id, "Introdução", data,
+                "http://agenciadenoticias.ibge.gov.br/" + id + ".html", TipoNoticia.NOTICIA);
+        noticia.setParaLerDepois(true);
+        return noticia;
+    }
+
+    // Registra, a cada gravação, os IDs das notícias ainda marcadas para ler depois
+    private static class UsuarioServiceContador extends UsuarioService {
+        private final List<List<Long>> gravacoes = new ArrayList<>();
+
+        UsuarioServiceContador(String diretorioDados) {
+            super(diretorioDados);
+        }
+
+        @Override
+        public void salvarUsuario(Usuario usuario) {
+            gravacoes.add(usuario.listarNoticiasParaLerDepois().stream().map(Noticia::getId).toList());
+            super.salvarUsuario(usuario);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.pablovns.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutomatoBuscasTest {
+
+    @Test
+    void encontraTermosSobrepostosPelasFalhas() {
+        AutomatoBuscas automato = new AutomatoBuscas(List.of("he", "she", "his", "hers"));
+
+        // "she" e "he" terminam na mesma posição; "hers" só é alcançado pela transição de falha
+        assertEquals(Set.of("she", "he", "hers"), automato.encontrar("ushers"));
+    }
+
+    @Test
+    void ignoraAcentosEMaiusculasMantendoOTermoOriginal() {
+        AutomatoBuscas automato = new AutomatoBuscas(List.of("Inflacao", "Desemprego"));
+
+        assertEquals(Set.of("Inflacao"), automato.encontrar("IPCA mostra queda da inflação em maio"));
+    }
+
+    @Test
+    void procuraEmTodosOsTextosEIgnoraNulos() {
+        AutomatoBuscas automato = new AutomatoBuscas(List.of("censo", "PIB"));
+
+        assertEquals(Set.of("censo", "PIB"), automato.encontrar("Resultados do Censo", null, "PIB cresce 1%"));
+    }
+
+    @Test
+    void termosEmBrancoSaoDescartados() {
+        AutomatoBuscas automato = new AutomatoBuscas(List.of(" ", ""));
+
+        assertTrue(automato.isVazio());
+        assertTrue(automato.encontrar("qualquer texto").isEmpty());
+    }
+}
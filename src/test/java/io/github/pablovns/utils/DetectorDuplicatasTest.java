@@ -0,0 +1,60 @@
+package io.github.pablovns.utils;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class DetectorDuplicatasTest {
+
+    @Test
+    void agrupaNoticiaEReleaseCorrespondente() {
+        DetectorDuplicatas detector = new DetectorDuplicatas();
+        Noticia noticia = noticia(43100L, TipoNoticia.NOTICIA,
+                "IPCA fica em 0,26% em maio e acumula 5,32% em 12 meses",
+                "O Índice Nacional de Preços ao Consumidor Amplo (IPCA) ficou em 0,26% em maio, 0,17 ponto percentual abaixo da taxa de abril.");
+        Noticia release = noticia(43101L, TipoNoticia.RELEASE,
+                "IPCA fica em 0,26% em maio e acumula 5,32% em 12 meses",
+                "O Índice Nacional de Preços ao Consumidor Amplo - IPCA ficou em 0,26% em maio, 0,17 ponto percentual abaixo da taxa registrada em abril.");
+        Noticia outra = noticia(43102L, TipoNoticia.NOTICIA,
+                "Produção industrial recua 0,5% em abril",
+                "A produção industrial nacional caiu 0,5% frente a março, na série com ajuste sazonal.");
+
+        List<Noticia> resultado = detector.removerSemelhantes(List.of(noticia, release, outra));
+
+        assertEquals(List.of(noticia, outra), resultado);
+        assertEquals(43100L, detector.agrupar(release));
+    }
+
+    @Test
+    void noticiasSemPalavrasNaoSaoAgrupadas() {
+        DetectorDuplicatas detector = new DetectorDuplicatas();
+
+        assertEquals(1L, detector.agrupar(noticia(1L, TipoNoticia.NOTICIA, "!!!", null)));
+        assertEquals(2L, detector.agrupar(noticia(2L, TipoNoticia.NOTICIA, "...", "")));
+        assertEquals(3L, detector.agrupar(noticia(3L, TipoNoticia.RELEASE, null, null)));
+    }
+
+    @Test
+    void introducaoNulaNaoViraPalavra() {
+        DetectorDuplicatas detector = new DetectorDuplicatas();
+
+        long grupoSemIntroducao = detector.agrupar(noticia(1L, TipoNoticia.NOTICIA, "Censo agropecuário", null));
+        long grupoComNull = detector.agrupar(noticia(2L, TipoNoticia.NOTICIA, "Censo agropecuário null", null));
+        long grupoIgual = detector.agrupar(noticia(3L, TipoNoticia.RELEASE, "Censo agropecuário", ""));
+
+        assertEquals(1L, grupoSemIntroducao);
+        assertNotEquals(1L, grupoComNull);
+        assertEquals(1L, grupoIgual);
+    }
+
+    private static Noticia noticia(Long id, TipoNoticia tipo, String titulo, String introducao) {
+        return new Noticia(id, titulo, introducao, LocalDateTime.of(2025, 6, 10, 9, 0),
+                "http://agenciadenoticias.ibge.gov.br/" + id + ".html", tipo);
+    }
+}
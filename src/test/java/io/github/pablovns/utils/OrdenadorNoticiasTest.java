@@ -0,0 +1,58 @@
+package io.github.pablovns.utils;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrdenadorNoticiasTest {
+
+    @Test
+    void mesclaListasOrdenandoPorDataSemRepetidas() {
+        Noticia a = noticia(1L, LocalDateTime.of(2025, 3, 1, 8, 0));
+        Noticia b = noticia(2L, LocalDateTime.of(2025, 3, 2, 8, 0));
+        Noticia c = noticia(3L, LocalDateTime.of(2025, 3, 3, 8, 0));
+        Noticia d = noticia(4L, LocalDateTime.of(2025, 3, 4, 8, 0));
+
+        // As listas não precisam vir ordenadas; a notícia 2 aparece em duas janelas
+        List<Noticia> mescladas = OrdenadorNoticias.mesclarPorData(List.of(
+                List.of(c, a),
+                List.of(),
+                List.of(d, b),
+                List.of(noticia(2L, LocalDateTime.of(2025, 3, 2, 8, 0)))));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), mescladas.stream().map(Noticia::getId).toList());
+    }
+
+    @Test
+    void noticiasSemDataFicamNoFinal() {
+        Noticia semData = noticia(1L, null);
+        Noticia antiga = noticia(2L, LocalDateTime.of(2025, 1, 1, 8, 0));
+        Noticia recente = noticia(3L, LocalDateTime.of(2025, 2, 1, 8, 0));
+
+        List<Noticia> mescladas = OrdenadorNoticias.mesclarPorData(List.of(
+                List.of(semData, recente),
+                List.of(noticia(4L, null), antiga)));
+
+        assertEquals(List.of(2L, 3L), mescladas.subList(0, 2).stream().map(Noticia::getId).toList());
+        assertTrue(mescladas.subList(2, 4).stream().allMatch(n -> n.getDataPublicacao() == null));
+        assertEquals(List.of(2L, 3L, 1L), OrdenadorNoticias.ordenarPorData(List.of(semData, recente, antiga))
+                .stream().map(Noticia::getId).toList());
+    }
+
+    @Test
+    void listasVaziasResultamEmListaVazia() {
+        assertTrue(OrdenadorNoticias.mesclarPorData(List.of()).isEmpty());
+        assertTrue(OrdenadorNoticias.mesclarPorData(List.of(List.of(), List.of())).isEmpty());
+    }
+
+    private static Noticia noticia(Long id, LocalDateTime data) {
+        return new Noticia(id, "Notícia " + id, "Introdução", data,
+                "http://agenciadenoticias.ibge.gov.br/" + id + ".html", TipoNoticia.NOTICIA);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.pablovns.utils;
+
+import io.github.pablovns.domain.Noticia;
+import io.github.pablovns.domain.TipoNoticia;
+import io.github.pablovns.domain.Usuario;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsuarioAdapterTest {
+
+    @Test
+    void arquivoDoUsuarioEhRegravadoSemAlteracoes() throws IOException {
+        String original;
+        try (InputStream arquivo = getClass().getResourceAsStream("/usuario.json")) {
+            original = new String(arquivo.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        Usuario usuario = ConfiguracaoGson.gson().fromJson(original, Usuario.class);
+
+        assertFalse(usuario.getNoticias().isEmpty());
+        assertEquals(original, ConfiguracaoGson.gson().toJson(usuario));
+    }
+
+    @Test
+    void arquivoSemBuscasSalvasNemNovidadesEhCarregado() {
+        String json = """
+                {
+                  "nome": "Ana",
+                  "noticias": [
+                    {
+                      "id": 1,
+                      "titulo": "Censo",
+                      "introducao": "Resultados do censo.",
+                      "data_publicacao": "2025-04-13T08:00:00",
+                      "link": "http://agenciadenoticias.ibge.gov.br/noticias/1.html",
+                      "tipo": "NOTICIA",
+                      "lida": true,
+                      "favorita": false,
+                      "paraLerDepois": false
+                    }
+                  ]
+                }""";
+
+        Usuario usuario = ConfiguracaoGson.gson().fromJson(json, Usuario.class);
+
+        assertEquals("Ana", usuario.getNome());
+        assertEquals(1, usuario.getNoticias().size());
+        assertTrue(usuario.getNoticias().get(0).isLida());
+        assertTrue(usuario.getBuscasSalvas().isEmpty());
+        assertTrue(usuario.getNovidades().isEmpty());
+    }
+
+    @Test
+    void novidadesVistasSaoPreservadas() {
+        Usuario usuario = new Usuario("Ana");
+        Noticia novidade = new Noticia(5L, "Censo", "Resultados do censo.", null,
+                "http://agenciadenoticias.ibge.gov.br/noticias/5.html", TipoNoticia.NOTICIA);
+        usuario.adicionarNovidade(novidade);
+        usuario.marcarNovidadeVista(7L);
+        usuario.limparNovidades();
+
+        Usuario lido = ConfiguracaoGson.gson().fromJson(ConfiguracaoGson.gson().toJson(usuario), Usuario.class);
+
+        assertTrue(lido.getNovidades().isEmpty());
+        assertEquals(Set.of(5L, 7L), lido.getNovidadesVistas());
+    }
+
+    @Test
+    void novidadesDeArquivosAntigosContamComoVistas() {
+        String json = """
+                {
+                  "nome": "Ana",
+                  "noticias": [],
+                  "novidades": [{"id": 9, "titulo": "Censo", "tipo": "NOTICIA"}]
+                }""";
+
+        Usuario usuario = ConfiguracaoGson.gson().fromJson(json, Usuario.class);
+
+        assertEquals(1, usuario.getNovidades().size());
+        assertEquals(Set.of(9L), usuario.getNovidadesVistas());
+    }
+
+    @Test
+    void noticiaInvalidaEhIgnoradaSemPerderAsDemais() {
+        String json = """
+                {
+                  "nome": "Ana",
+                  "noticias": [
+                    {"id": 1, "titulo": "Primeira", "tipo": "NOTICIA"},
+                    {"id": "não é número", "titulo": "Inválida", "tipo": "NOTICIA"},
+                    "não é objeto",
+                    {"id": 3, "titulo": "Terceira", "tipo": "data inexistente", "lida": true},
+                    {"titulo": "Sem id", "tipo": "NOTICIA", "favorita": true},
+                    {"id": 4, "titulo": "Quarta", "tipo": "RELEASE"}
+                  ],
+                  "buscasSalvas": ["censo"]
+                }""";
+
+        Usuario usuario = ConfiguracaoGson.gson().fromJson(json, Usuario.class);
+
+        List<Long> ids = usuario.getNoticias().stream().map(Noticia::getId).toList();
+        assertEquals(List.of(1L, 4L), ids);
+        assertEquals(List.of("censo"), usuario.getBuscasSalvas());
+        assertTrue(usuario.noticiaExiste(4L));
+    }
+}